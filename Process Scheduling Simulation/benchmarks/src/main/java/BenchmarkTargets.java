@@ -0,0 +1,63 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+//This class prepares the work measured by the JMH benchmarks in the benchmarks package
+//JMH does not accept benchmarks in the default package, and a named package cannot see the simulator's package-private classes,
+//so the benchmarks look this class up once by name and then only call the LongSupplier it returns: one interface call per operation
+//Every workload comes from WorkloadGenerator or ReferenceGenerator with a fixed seed, so every commit measures the same input
+public final class BenchmarkTargets {
+    private BenchmarkTargets() {
+    }
+
+    //This method generates a workload of the given size, sorted by arrival the way every scheduling mode receives it
+    static ProcessTable workload(int processes, long seed) throws IOException {
+        return ProcessTable.from(WorkloadGenerator.fromArgs(new String[] {"--generate", Integer.toString(processes),
+                "--seed", Long.toString(seed)})).sortedByArrival();
+    }
+
+    //This method returns a supplier that schedules the workload once with the named algorithm and returns the makespan
+    //The run state is reused between calls as the batch runner does; with gantt the chart is recorded too
+    public static LongSupplier scheduler(String algorithm, int processes, int timeQuantum, boolean gantt, long seed) throws IOException {
+        ProcessTable table = workload(processes, seed);
+        ProcessTable.RunState run = table.newRun();
+        int[] levelQuanta = {timeQuantum, 2 * timeQuantum, 4 * timeQuantum};
+        switch (algorithm) {
+            case BatchRunner.FCFS:
+                return () -> SchedulingEngine.fcfs(table, run, gantt ? new GanttLog(table.size) : null).makespan;
+            case BatchRunner.SJF:
+                return () -> SchedulingEngine.sjf(table, run, gantt ? new GanttLog(table.size) : null).makespan;
+            case BatchRunner.PRIORITY:
+                return () -> SchedulingEngine.priority(table, run, gantt ? new GanttLog(table.size) : null).makespan;
+            case BatchRunner.RR:
+                return () -> SchedulingEngine.roundRobin(table, run, gantt ? new GanttLog(table.size) : null, timeQuantum).makespan;
+            case BatchRunner.SRTF:
+                return () -> PreemptiveScheduler.srtf(table, run, gantt ? new GanttLog(table.size) : null).makespan;
+            case BatchRunner.PREEMPTIVE_PRIORITY:
+                return () -> PreemptiveScheduler.priority(table, run, gantt ? new GanttLog(table.size) : null, 0).makespan;
+            case BatchRunner.MLFQ:
+                return () -> MlfqScheduler.mlfq(table, run, gantt ? new GanttLog(table.size) : null, levelQuanta, 0).makespan;
+            case BatchRunner.CFS:
+                return () -> CfsScheduler.cfs(table, run, gantt ? new GanttLog(table.size) : null,
+                        CfsScheduler.DEFAULT_LATENCY, CfsScheduler.DEFAULT_MIN_GRANULARITY).makespan;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    //This method returns a supplier that replays the workload's memory requests against a fresh allocator and returns the failures
+    public static LongSupplier allocator(String allocator, int processes, int memorySize, long seed) throws IOException {
+        ProcessTable table = workload(processes, seed);
+        MemoryRunner.create(allocator, memorySize, table, MemoryRunner.DEFAULT_MIN_BLOCK, MemoryRunner.DEFAULT_SLAB_SIZE); //Reject an unknown name now
+        return () -> MemoryRunner.replay(table,
+                MemoryRunner.create(allocator, memorySize, table, MemoryRunner.DEFAULT_MIN_BLOCK, MemoryRunner.DEFAULT_SLAB_SIZE)).failures;
+    }
+
+    //This method returns a supplier that replays a generated reference string through a fresh policy and returns the faults
+    public static LongSupplier replacement(String policy, int references, int frames, int pages, String model, long seed) {
+        int[] pageReferences = PagingRunner.generate(new ReferenceGenerator(ReferenceGenerator.parseModel(model), pages, seed,
+                ReferenceGenerator.DEFAULT_ZIPF_EXPONENT, ReferenceGenerator.DEFAULT_WORKING_SET, ReferenceGenerator.DEFAULT_PHASE_LENGTH), references);
+        PagingRunner.create(policy, frames, pageReferences); //Reject an unknown name now
+        return () -> PagingRunner.create(policy, frames, pageReferences).run(pageReferences, 0, pageReferences.length);
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures a memory-mode replay (allocate on arrival, free when the burst has elapsed) for every allocator
+//"first" is the first-fit strategy the interactive first-fit simulation uses
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AllocatorBenchmark {
+    @Param({"first", "best", "worst", "next", "buddy", "slab"})
+    public String allocator;
+
+    @Param({"1000", "100000", "1000000"})
+    public int processes;
+
+    @Param({"4096", "65536"})
+    public int memorySize;
+
+    private LongSupplier replay; //This variable stores the prepared replay of the current parameters
+
+    @Setup
+    public void setUp() {
+        replay = Targets.lookup("allocator", allocator, processes, memorySize, 42L);
+    }
+
+    @Benchmark
+    public long replay() {
+        return replay.getAsLong();
+    }
+}
@@ -0,0 +1,121 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//This class is a command-line tool that compares two JMH result files written with "-rf csv", e.g. from two commits
+//Rows are matched by benchmark, mode and parameters; GC profiler metrics such as gc.alloc.rate.norm are compared like any other row
+//A change is marked with '*' when it is larger than the threshold and the two scores' error intervals do not overlap
+//Usage: java -cp benchmarks.jar benchmarks.CompareResults <old.csv> <new.csv> [threshold percent, default 5]
+public class CompareResults {
+    //This class holds one result row
+    static final class Row {
+        final double score, error; //These variables store the score and its 99.9% error (0 when JMH reported none)
+        final String unit;
+
+        Row(double score, double error, String unit) {
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+    }
+
+    public static void main(String[] args) {
+        //If the two result files were not given
+        if (args.length < 2 || args.length > 3) {
+            System.out.println("Usage: java -cp benchmarks.jar benchmarks.CompareResults <old.csv> <new.csv> [threshold percent]");
+            System.exit(2);
+        }
+        try {
+            double threshold = args.length == 3 ? Double.parseDouble(args[2]) : 5;
+            Map<String, Row> before = read(Paths.get(args[0]));
+            Map<String, Row> after = read(Paths.get(args[1]));
+            System.out.printf("%-90s %-10s %14s %14s %10s%n", "Benchmark", "Unit", "Old", "New", "Change %");
+            int significant = 0;
+            for (Map.Entry<String, Row> entry : after.entrySet()) {
+                Row old = before.get(entry.getKey());
+                Row now = entry.getValue();
+                if (old == null) {
+                    System.out.printf("%-90s %-10s %14s %14.3f %10s%n", entry.getKey(), now.unit, "-", now.score, "new");
+                    continue;
+                }
+                double change = old.score == 0 ? (now.score == 0 ? 0 : Double.POSITIVE_INFINITY) : 100 * (now.score - old.score) / old.score;
+                boolean marked = Math.abs(change) > threshold && Math.abs(now.score - old.score) > old.error + now.error;
+                if (marked)
+                    significant++;
+                System.out.printf("%-90s %-10s %14.3f %14.3f %+9.1f%s%n", entry.getKey(), now.unit, old.score, now.score, change, marked ? "*" : " ");
+            }
+            for (Map.Entry<String, Row> entry : before.entrySet()) {
+                if (!after.containsKey(entry.getKey())) {
+                    System.out.printf("%-90s %-10s %14.3f %14s %10s%n", entry.getKey(), entry.getValue().unit, entry.getValue().score, "-", "removed");
+                }
+            }
+            System.out.println(significant + " significant change(s) above " + threshold + "%");
+        } catch (IllegalArgumentException | IOException e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    //This method reads a JMH CSV file into rows keyed by benchmark, mode and the parameters that are set
+    static Map<String, Row> read(Path file) throws IOException {
+        Map<String, Row> rows = new LinkedHashMap<>();
+        try (BufferedReader in = Files.newBufferedReader(file)) {
+            String line = in.readLine();
+            //If the file has no header, it is not a JMH CSV result
+            if (line == null || !line.startsWith("\"Benchmark\"")) {
+                throw new IOException(file + " is not a JMH CSV result file (run JMH with -rf csv)");
+            }
+            List<String> header = split(line);
+            int score = header.indexOf("Score"), error = header.indexOf("Score Error (99.9%)"), unit = header.indexOf("Unit");
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank())
+                    continue;
+                List<String> fields = split(line);
+                StringBuilder key = new StringBuilder(fields.get(0).replaceFirst("^benchmarks\\.", "")).append(" ").append(fields.get(1));
+                for (int i = unit + 1; i < fields.size() && i < header.size(); i++) {
+                    if (!fields.get(i).isEmpty()) {
+                        key.append(' ').append(header.get(i).replaceFirst("^Param: ", "")).append('=').append(fields.get(i));
+                    }
+                }
+                double errorValue = Double.parseDouble(fields.get(error));
+                rows.put(key.toString(), new Row(Double.parseDouble(fields.get(score)), Double.isNaN(errorValue) ? 0 : errorValue, fields.get(unit)));
+            }
+        }
+        return rows;
+    }
+
+    //This method splits one CSV line, removing the quotes around quoted fields
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                //A doubled quote inside a quoted field is one literal quote
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
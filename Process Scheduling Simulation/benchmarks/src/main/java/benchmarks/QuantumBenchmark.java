@@ -0,0 +1,47 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures how the time-sliced schedulers scale with the time quantum: a small quantum means many more dispatches
+//MLFQ uses the quantum for its top level and doubles it for each of the two levels below
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class QuantumBenchmark {
+    @Param({"rr", "mlfq"})
+    public String algorithm;
+
+    @Param({"1", "4", "16", "64"})
+    public int quantum;
+
+    @Param({"100000"})
+    public int processes;
+
+    private LongSupplier schedule; //This variable stores the prepared schedule of the current parameters
+
+    @Setup
+    public void setUp() {
+        schedule = Targets.lookup("scheduler", algorithm, processes, quantum, false, 42L);
+    }
+
+    @Benchmark
+    public long schedule() {
+        return schedule.getAsLong();
+    }
+}
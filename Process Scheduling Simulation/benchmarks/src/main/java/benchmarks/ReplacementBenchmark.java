@@ -0,0 +1,53 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures one replay of a generated page reference string through every replacement policy and frame count
+//"lru" is the policy behind the interactive simulatePagingLRU; OPT includes building its next-use index, as the paging mode does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReplacementBenchmark {
+    @Param({"fifo", "lru", "opt", "clock", "lfu", "arc"})
+    public String policy;
+
+    @Param({"16", "256", "4096"})
+    public int frames;
+
+    @Param({"zipf", "working-set"})
+    public String model;
+
+    @Param({"1000000"})
+    public int references;
+
+    @Param({"65536"})
+    public int pages;
+
+    private LongSupplier replay; //This variable stores the prepared replay of the current parameters
+
+    @Setup
+    public void setUp() {
+        replay = Targets.lookup("replacement", policy, references, frames, pages, model, 42L);
+    }
+
+    @Benchmark
+    public long replay() {
+        return replay.getAsLong();
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures how Round Robin scales with the number of processes, from a thousand to ten million in steps of ten
+//A linear dispatch loop keeps the time per process flat across the sweep; the largest workload needs the bigger heap of this fork
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class RoundRobinScalingBenchmark {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int processes;
+
+    @Param({"4"})
+    public int quantum;
+
+    private LongSupplier schedule; //This variable stores the prepared schedule of the current parameters
+
+    @Setup
+    public void setUp() {
+        schedule = Targets.lookup("scheduler", "rr", processes, quantum, false, 42L);
+    }
+
+    @Benchmark
+    public long schedule() {
+        return schedule.getAsLong();
+    }
+}
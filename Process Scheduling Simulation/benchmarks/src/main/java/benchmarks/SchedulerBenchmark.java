@@ -0,0 +1,48 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//This class measures one complete schedule of a generated workload for every scheduling algorithm and input size
+//The interactive sjfScheduling and priorityScheduling methods print through these same engines; the Gantt chart is left out
+//unless -p gantt=true is given, so by default only the dispatch loop and its statistics are measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SchedulerBenchmark {
+    @Param({"fcfs", "sjf", "rr", "priority", "srtf", "ppriority", "mlfq", "cfs"})
+    public String algorithm;
+
+    @Param({"1000", "100000", "1000000"})
+    public int processes;
+
+    @Param({"false"})
+    public boolean gantt;
+
+    private LongSupplier schedule; //This variable stores the prepared schedule of the current parameters
+
+    @Setup
+    public void setUp() {
+        schedule = Targets.lookup("scheduler", algorithm, processes, 4, gantt, 42L);
+    }
+
+    @Benchmark
+    public long schedule() {
+        return schedule.getAsLong();
+    }
+}
@@ -0,0 +1,31 @@
+package benchmarks;
+
+//Importing the necessary libraries
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.LongSupplier;
+
+//This class looks up the measured work in the default-package BenchmarkTargets class, which a named package cannot refer to by name
+//The lookup happens once per trial in a @Setup method, so reflection never runs inside a measured operation
+final class Targets {
+    private Targets() {
+    }
+
+    //This method calls the named BenchmarkTargets factory with the given arguments and returns the supplier it builds
+    static LongSupplier lookup(String factory, Object... arguments) {
+        try {
+            for (Method method : Class.forName("BenchmarkTargets").getMethods()) {
+                if (method.getName().equals(factory) && method.getParameterCount() == arguments.length) {
+                    return (LongSupplier) method.invoke(null, arguments);
+                }
+            }
+            throw new IllegalStateException("BenchmarkTargets has no factory " + factory + " taking " + arguments.length + " arguments");
+        } catch (InvocationTargetException e) {
+            //If the factory rejected its arguments, report its own exception rather than the reflective wrapper
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot reach BenchmarkTargets: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+//This interface is a memory allocator simulated over a fixed range of addresses
+//An allocator hands out blocks for requests and takes them back by address, and keeps the counters needed
+//to compare strategies: how many requests failed and how fragmented the free memory is
+interface Allocator {
+    //This constant is the address returned when a request cannot be satisfied
+    int FAILED = -1;
+
+    //This method returns the short allocator name (e.g., "Best-Fit")
+    String name();
+
+    //This method allocates a block of the given size and returns its address, or FAILED if no free block is large enough
+    int allocate(int size);
+
+    //This method frees the block allocated at the given address
+    void free(int address);
+
+    //This method returns the total amount of memory managed
+    long capacity();
+
+    //This method returns the amount of memory not allocated
+    long freeBytes();
+
+    //This method returns the size of the largest free block
+    long largestFree();
+
+    //This method returns the memory held by allocated blocks, including any rounding up of their sizes
+    long allocatedBytes();
+
+    //This method returns the memory asked for by the requests whose blocks are still allocated
+    long requestedBytes();
+
+    //This method returns the number of allocation requests made so far
+    long requests();
+
+    //This method returns the number of allocation requests that failed
+    long failures();
+
+    //This method returns the fraction of free memory that is not in the largest free block (0 when free memory is one block)
+    default double externalFragmentation() {
+        long free = freeBytes();
+        return free == 0 ? 0 : 1.0 - (double) largestFree() / free;
+    }
+
+    //This method returns the fraction of allocated memory that was not asked for (lost to rounding block sizes up)
+    default double internalFragmentation() {
+        long allocated = allocatedBytes();
+        return allocated == 0 ? 0 : 1.0 - (double) requestedBytes() / allocated;
+    }
+
+    //This method returns the fraction of allocation requests that failed
+    default double failureRate() {
+        return requests() == 0 ? 0 : (double) failures() / requests();
+    }
+}
@@ -0,0 +1,171 @@
+//This class simulates ARC (Adaptive Replacement Cache, Megiddo and Modha) page replacement over a fixed number of frames
+//Resident pages are split between T1 (seen once recently) and T2 (seen at least twice), and the pages last evicted from each
+//are remembered, without their contents, in the ghost lists B1 and B2; a hit in a ghost list moves the target size of T1,
+//so the policy adapts between recency and frequency as the workload changes
+//The four lists are intrusive doubly linked lists over a pool of 2 * frames nodes, so every reference is O(1) and allocation-free
+class ArcReplacement implements ReplacementPolicy {
+    //This constant marks the end of a list
+    private static final int NIL = -1;
+    //These constants name the four lists
+    private static final int T1 = 0, T2 = 1, B1 = 2, B2 = 3;
+
+    private final int capacity; //This variable stores the number of frames
+    private final int[] page, prev, next, listOf; //These arrays store each node's page, its links and the list it is on
+    private final int[] head = new int[4], tail = new int[4], length = new int[4]; //These arrays store each list's most and least recent nodes and size
+    private final IntQueue freeNodes; //This queue stores nodes that are not on any list
+    private final PageMap directory; //This map stores the node of every resident or remembered page
+    private int target; //This variable stores the adaptive target size of T1 (p in the paper)
+    private long references, faults, evictions; //These variables count what happened during the run
+
+    //This constructor creates an empty memory with the given number of frames
+    ArcReplacement(int numFrames) {
+        capacity = numFrames;
+        int nodes = 2 * numFrames;
+        directory = new PageMap(nodes);
+        page = new int[nodes];
+        prev = new int[nodes];
+        next = new int[nodes];
+        listOf = new int[nodes];
+        freeNodes = new IntQueue(nodes);
+        reset();
+    }
+
+    //This method returns the policy name
+    @Override
+    public String name() {
+        return "ARC";
+    }
+
+    //This method references a page and returns true if it was already resident (a hit)
+    @Override
+    public boolean access(int p) {
+        references++;
+        int n = directory.get(p);
+        if (n != PageMap.ABSENT && (listOf[n] == T1 || listOf[n] == T2)) { //Case I: a hit in T1 or T2 moves the page to the front of T2
+            unlink(n);
+            pushFront(n, T2);
+            return true;
+        }
+        faults++;
+        if (n != PageMap.ABSENT) {
+            if (listOf[n] == B1) { //Case II: a ghost hit in B1 means T1 was too small
+                target = Math.min(capacity, target + Math.max(length[B2] / length[B1], 1));
+                replace(false);
+            } else { //Case III: a ghost hit in B2 means T2 was too small
+                target = Math.max(0, target - Math.max(length[B1] / length[B2], 1));
+                replace(true);
+            }
+            unlink(n);
+            pushFront(n, T2);
+            return false;
+        }
+        //Case IV: the page is new to the directory
+        int recentSide = length[T1] + length[B1];
+        if (recentSide == capacity) {
+            if (length[T1] < capacity) {
+                forget(tail[B1]);
+                replace(false);
+            } else { //B1 is empty and T1 fills memory, so T1's least recent page is evicted and not remembered
+                forget(tail[T1]);
+                evictions++;
+            }
+        } else {
+            int total = recentSide + length[T2] + length[B2];
+            if (total >= capacity) {
+                if (total == 2 * capacity) {
+                    forget(tail[B2]);
+                }
+                replace(false);
+            }
+        }
+        n = freeNodes.pollFirst();
+        page[n] = p;
+        directory.put(p, n);
+        pushFront(n, T1);
+        return false;
+    }
+
+    //This method evicts one resident page into its ghost list, choosing T1 or T2 by comparing T1's size with the target
+    private void replace(boolean hitInB2) {
+        int t1 = length[T1];
+        if (t1 > 0 && (t1 > target || (hitInB2 && t1 == target))) {
+            int victim = tail[T1];
+            unlink(victim);
+            pushFront(victim, B1);
+        } else {
+            int victim = tail[T2];
+            unlink(victim);
+            pushFront(victim, B2);
+        }
+        evictions++;
+    }
+
+    //This method removes a node from its list and the directory and frees it
+    private void forget(int n) {
+        unlink(n);
+        directory.remove(page[n]);
+        freeNodes.addLast(n);
+    }
+
+    //This method removes a node from its list
+    private void unlink(int n) {
+        int list = listOf[n];
+        if (prev[n] == NIL) head[list] = next[n]; else next[prev[n]] = next[n];
+        if (next[n] == NIL) tail[list] = prev[n]; else prev[next[n]] = prev[n];
+        length[list]--;
+    }
+
+    //This method puts a node at the most recent end of a list
+    private void pushFront(int n, int list) {
+        listOf[n] = list;
+        prev[n] = NIL;
+        next[n] = head[list];
+        if (head[list] == NIL) tail[list] = n; else prev[head[list]] = n;
+        head[list] = n;
+        length[list]++;
+    }
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    @Override
+    public long run(int[] pageReferences, int from, int to) {
+        long before = faults;
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+        return faults - before;
+    }
+
+    //This method empties every frame and ghost list and zeroes the counters
+    @Override
+    public void reset() {
+        directory.clear();
+        freeNodes.clear();
+        for (int n = 0; n < page.length; n++) {
+            freeNodes.addLast(n);
+        }
+        for (int list = T1; list <= B2; list++) {
+            head[list] = tail[list] = NIL;
+            length[list] = 0;
+        }
+        target = 0;
+        references = faults = evictions = 0;
+    }
+
+    //This method returns the number of pages referenced so far
+    @Override
+    public long references() {
+        return references;
+    }
+
+    //This method returns the number of references that found their page missing
+    @Override
+    public long faults() {
+        return faults;
+    }
+
+    //This method returns the number of resident pages that were replaced
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,186 @@
+//Importing the necessary libraries
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+//This class runs a chosen set of scheduling algorithms, and a sweep of Round Robin quanta, concurrently
+//Every run reads the same ProcessTable and writes only into its own RunState, so the table is shared without copying or locking
+//Runs are headless (no Gantt chart), and their ScheduleResults are gathered into one comparison report
+final class BatchRunner {
+    //These constants are the algorithm names accepted by --algorithms
+    static final String FCFS = "fcfs", SJF = "sjf", RR = "rr", PRIORITY = "priority";
+    static final String SRTF = "srtf", PREEMPTIVE_PRIORITY = "ppriority", MLFQ = "mlfq", CFS = "cfs";
+
+    private BatchRunner() {
+    }
+
+    //This method runs every requested algorithm (Round Robin once per quantum) on a fork-join pool and returns the outcomes in request order
+    //The aging interval only applies to preemptive Priority (0 turns aging off), the level quanta and boost period to MLFQ,
+    //and the target latency and minimum granularity to CFS
+    //Every run charges the given dispatch cost
+    static List<ScheduleResult> run(ProcessTable table, List<String> algorithms, int[] quanta, int agingInterval, int[] levelQuanta,
+                                    int boostPeriod, int latency, int minGranularity, DispatchCost cost, int parallelism) {
+        table.byArrival(); //Build the cached arrival order before the table is shared between threads
+        List<Callable<ScheduleResult>> jobs = new ArrayList<>();
+        for (String algorithm : algorithms) {
+            switch (algorithm) {
+                case FCFS:
+                    jobs.add(() -> SchedulingEngine.fcfs(table, table.newRun(cost), null));
+                    break;
+                case SJF:
+                    jobs.add(() -> SchedulingEngine.sjf(table, table.newRun(cost), null));
+                    break;
+                case PRIORITY:
+                    jobs.add(() -> SchedulingEngine.priority(table, table.newRun(cost), null));
+                    break;
+                case SRTF:
+                    jobs.add(() -> PreemptiveScheduler.srtf(table, table.newRun(cost), null));
+                    break;
+                case PREEMPTIVE_PRIORITY:
+                    jobs.add(() -> PreemptiveScheduler.priority(table, table.newRun(cost), null, agingInterval));
+                    break;
+                case MLFQ:
+                    jobs.add(() -> MlfqScheduler.mlfq(table, table.newRun(cost), null, levelQuanta, boostPeriod));
+                    break;
+                case CFS:
+                    jobs.add(() -> CfsScheduler.cfs(table, table.newRun(cost), null, latency, minGranularity));
+                    break;
+                case RR:
+                    for (int quantum : quanta) {
+                        jobs.add(() -> SchedulingEngine.roundRobin(table, table.newRun(cost), null, quantum));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown algorithm: " + algorithm + " (expected fcfs, sjf, rr, priority, srtf, ppriority, mlfq or cfs)");
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ScheduleResult> outcomes = new ArrayList<>(jobs.size());
+            for (Future<ScheduleResult> future : pool.invokeAll(jobs)) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch run was interrupted", e);
+        } catch (ExecutionException e) {
+            //ForkJoinPool rethrows a worker's exception as a copy of the same type that wraps the original, so unwrap those copies
+            Throwable cause = e.getCause();
+            while (cause.getCause() != null && cause.getCause().getClass() == cause.getClass()) {
+                cause = cause.getCause();
+            }
+            //If an algorithm rejected its parameters, report it like any other invalid option
+            if (cause instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) cause;
+            }
+            throw new IllegalStateException("A batch run failed: " + cause, cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    //This method prints the comparison report
+    static void printReport(ProcessTable table, List<ScheduleResult> results, int parallelism, long totalNanos) {
+        System.out.println("\n--- Batch Comparison (" + table.size + " processes, " + parallelism + " threads) ---");
+        System.out.printf("%-16s %-14s %-16s %-12s %-10s %-10s %-12s %-10s\n", "Algorithm", "Avg Waiting", "Avg Turnaround", "Makespan",
+                "Switches", "CPU Util %", "Overhead %", "Wall ms");
+        for (ScheduleResult r : results) {
+            System.out.printf(Locale.ROOT, "%-16s %-14.2f %-16.2f %-12d %-10d %-10.2f %-12.2f %-10.3f\n", r.label(), r.avgWaiting, r.avgTurnaround,
+                    r.makespan, r.contextSwitches, 100 * r.utilization(), 100 * r.overheadShare(), r.wallNanos / 1e6);
+        }
+        System.out.println("\n--- Tail Latency ---");
+        System.out.printf("%-16s %-10s %-10s %-10s %-10s %-10s %-12s %-13s %-10s %-10s\n", "Algorithm", "Wait p50", "Wait p95", "Wait p99",
+                "Max Wait", "Resp p99", "Turnaround p99", "Slowdown p99", "Fairness", "Throughput");
+        for (ScheduleResult r : results) {
+            ScheduleStats s = r.stats;
+            System.out.printf(Locale.ROOT, "%-16s %-10d %-10d %-10d %-10d %-10d %-14d %-13.2f %-10.4f %-10.4f\n", r.label(), s.waiting.percentile(50),
+                    s.waiting.percentile(95), s.waiting.percentile(99), s.waiting.max(), s.response.percentile(99), s.turnaround.percentile(99),
+                    s.slowdownPercentile(99), s.fairness(), s.throughput());
+        }
+        System.out.printf(Locale.ROOT, "Total wall-clock time: %.3f ms\n", totalNanos / 1e6);
+    }
+
+    //This method runs batch mode from the command line options and prints the report
+    //Options: --algorithms fcfs,sjf,rr,priority,srtf,ppriority,mlfq,cfs  --quanta 2,4,8  --aging N  --threads N  --format text|csv|json
+    //MLFQ options: --mlfq-quanta 4,8,16 (one quantum per level, top level first; defaults to q,2q,4q)  --mlfq-boost N (0 turns boosting off)
+    //CFS options: --cfs-latency N  --cfs-granularity N
+    //Dispatch cost options: --switch-cost N  --warmup N (charged on every context switch, and on top of it when a preempted process resumes)
+    //The text format prints the comparison table; csv and json write every run's per-process results to standard output
+    static void runFromArgs(ProcessTable table, String[] args, int defaultQuantum) throws IOException {
+        String algorithmList = OperatingSystemSchedulesProcesses.optionValue(args, "--algorithms");
+        String quantaList = OperatingSystemSchedulesProcesses.optionValue(args, "--quanta");
+        String aging = OperatingSystemSchedulesProcesses.optionValue(args, "--aging");
+        String levelList = OperatingSystemSchedulesProcesses.optionValue(args, "--mlfq-quanta");
+        String boost = OperatingSystemSchedulesProcesses.optionValue(args, "--mlfq-boost");
+        String latency = OperatingSystemSchedulesProcesses.optionValue(args, "--cfs-latency");
+        String granularity = OperatingSystemSchedulesProcesses.optionValue(args, "--cfs-granularity");
+        String threads = OperatingSystemSchedulesProcesses.optionValue(args, "--threads");
+        String format = OperatingSystemSchedulesProcesses.optionValue(args, "--format");
+        List<String> algorithms = new ArrayList<>();
+        for (String name : (algorithmList == null ? "fcfs,sjf,rr,priority" : algorithmList).split(",")) {
+            if (!name.isBlank()) {
+                algorithms.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        int[] quanta = quantaList == null ? new int[] {defaultQuantum} : parseQuanta(quantaList, "--quanta");
+        int[] levelQuanta = levelList == null ? new int[] {defaultQuantum, 2 * defaultQuantum, 4 * defaultQuantum} : parseQuanta(levelList, "--mlfq-quanta");
+        int boostPeriod = parseInt(boost, "--mlfq-boost", 0);
+        int cfsLatency = parseInt(latency, "--cfs-latency", CfsScheduler.DEFAULT_LATENCY);
+        int cfsGranularity = parseInt(granularity, "--cfs-granularity", CfsScheduler.DEFAULT_MIN_GRANULARITY);
+        int agingInterval = parseInt(aging, "--aging", 0);
+        if (agingInterval < 0) {
+            throw new IllegalArgumentException("Aging interval must not be negative: " + agingInterval);
+        }
+        int parallelism = parseInt(threads, "--threads", Runtime.getRuntime().availableProcessors());
+        if (parallelism < 1) { //A pool needs at least one worker thread
+            throw new IllegalArgumentException("--threads must be at least 1: " + parallelism);
+        }
+        boolean comparisonOnly = format == null || format.equalsIgnoreCase("text");
+        ResultSink sink = comparisonOnly ? null : ResultSink.forFormat(format, new BufferedWriter(new OutputStreamWriter(System.out)));
+        long startNanos = System.nanoTime();
+        List<ScheduleResult> results = run(table, algorithms, quanta, agingInterval, levelQuanta, boostPeriod, cfsLatency, cfsGranularity,
+                DispatchCost.fromArgs(args), parallelism);
+        long totalNanos = System.nanoTime() - startNanos;
+        if (comparisonOnly) {
+            printReport(table, results, parallelism, totalNanos);
+            return;
+        }
+        for (ScheduleResult result : results) {
+            sink.write(result);
+        }
+        sink.finish();
+    }
+
+    //This method parses the value of one whole-number option, which is the given default when the option is absent
+    private static int parseInt(String value, String option, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) { //If the value is not a whole number, name the option instead of echoing the parser
+            throw new IllegalArgumentException(option + " must be an integer: " + value);
+        }
+    }
+
+    //This method parses a comma-separated list of time quanta given with an option, each of which must be positive
+    static int[] parseQuanta(String list, String option) {
+        String[] parts = list.split(",");
+        int[] quanta = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            quanta[i] = parseInt(parts[i], option, 0);
+            if (quanta[i] <= 0) {
+                throw new IllegalArgumentException("Time quantum must be positive: " + quanta[i]);
+            }
+        }
+        return quanta;
+    }
+}
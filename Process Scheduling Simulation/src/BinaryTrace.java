@@ -0,0 +1,209 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//This class reads and writes the binary columnar trace format
+//Layout (little-endian ints):
+//  header (32 bytes): magic "PSTR", version, process count, min arrival, max arrival, column count, two reserved ints
+//  columns: pid[count], arrival[count], burst[count], priority[count], memory[count]
+//Each column is mapped as an IntBuffer view of the file, so reading a record copies nothing
+//A column is mapped in one piece, so a file holds at most MAX_COUNT processes
+class BinaryTrace implements ProcessSource {
+    //These constants describe the file header
+    static final int MAGIC = 0x52545350; //The bytes "PSTR" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int COLUMNS = 5;
+    //This constant is the largest process count whose columns can each be mapped as one buffer
+    static final int MAX_COUNT = Integer.MAX_VALUE / Integer.BYTES;
+
+    private final String name; //This variable stores the file name used in error messages
+    private final FileChannel channel; //This variable stores the open channel of the trace file
+    private final IntBuffer pid, arrival, burst, priority, memory; //These buffers map the five columns
+    final int count, minArrival, maxArrival; //These variables store the header values
+    private int index = -1; //This variable stores the position of the current record
+
+    //This constructor opens a binary trace, checks its header and maps its columns
+    BinaryTrace(Path path) throws IOException {
+        name = String.valueOf(path.getFileName());
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                //Keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException(path.getFileName() + " is not a binary process trace");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException(path.getFileName() + " has unsupported trace version " + version + " (expected " + VERSION + ")");
+            }
+            count = header.getInt();
+            minArrival = header.getInt();
+            maxArrival = header.getInt();
+            int columns = header.getInt();
+            if (count < 0 || count > MAX_COUNT || columns != COLUMNS) {
+                throw new IOException(path.getFileName() + " has a corrupt header");
+            }
+            long columnBytes = (long) count * Integer.BYTES;
+            if (channel.size() < HEADER_BYTES + COLUMNS * columnBytes) {
+                throw new IOException(path.getFileName() + " is truncated: expected " + count + " processes");
+            }
+            pid = mapColumn(0, columnBytes);
+            arrival = mapColumn(1, columnBytes);
+            burst = mapColumn(2, columnBytes);
+            priority = mapColumn(3, columnBytes);
+            memory = mapColumn(4, columnBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //This method maps one column of the file as a read-only IntBuffer
+    private IntBuffer mapColumn(int column, long columnBytes) throws IOException {
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + column * columnBytes, columnBytes);
+        return bytes.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    //This method returns true if the file starts with the binary trace magic number
+    static boolean isBinary(Path path) throws IOException {
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (magic.hasRemaining() && in.read(magic) >= 0) {
+                //Keep reading until four bytes are read or the file ends
+            }
+            return magic.position() == Integer.BYTES && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    //This method reads a whole binary trace into a ProcessTable with one bulk copy per column
+    static ProcessTable load(Path path) throws IOException {
+        try (BinaryTrace trace = new BinaryTrace(path)) {
+            ProcessTable table = new ProcessTable(trace.count);
+            trace.pid.get(0, table.pid, 0, trace.count);
+            trace.arrival.get(0, table.arrival, 0, trace.count);
+            trace.burst.get(0, table.burst, 0, trace.count);
+            trace.priority.get(0, table.priority, 0, trace.count);
+            trace.memory.get(0, table.memory, 0, trace.count);
+            for (int i = 0; i < trace.count; i++) {
+                trace.check(i, table.arrival[i], table.burst[i]);
+            }
+            table.size = trace.count;
+            return table;
+        }
+    }
+
+    //This method converts a text trace to a binary trace and returns the number of processes written
+    //The text file is read twice: once to count the processes and once to fill the columns, so memory use stays constant
+    static int convert(Path text, Path binary) throws IOException {
+        long count = 0;
+        try (TraceReader reader = new TraceReader(text)) {
+            while (reader.next()) {
+                count++;
+            }
+        }
+        if (count > MAX_COUNT) {
+            throw new IOException(text.getFileName() + " has " + count + " processes; the binary format holds at most " + MAX_COUNT);
+        }
+        try (TraceReader reader = new TraceReader(text)) {
+            write(reader, (int) count, binary);
+        }
+        return (int) count;
+    }
+
+    //This method writes the next count records of a source as a binary trace, one record at a time
+    //The columns are mapped for writing and the header is written last, once the smallest and largest arrival are known
+    static void write(ProcessSource source, int count, Path binary) throws IOException {
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IOException(count + " processes do not fit in a binary trace; it holds at most " + MAX_COUNT);
+        }
+        long columnBytes = (long) count * Integer.BYTES;
+        int minArrival = 0, maxArrival = 0;
+        try (FileChannel out = FileChannel.open(binary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            IntBuffer[] columns = new IntBuffer[COLUMNS];
+            for (int c = 0; c < COLUMNS; c++) {
+                columns[c] = out.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + c * columnBytes, columnBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+            for (int i = 0; i < count; i++) {
+                //If the source ends early, the columns would be left partly empty
+                if (!source.next()) {
+                    throw new IOException("The source ended after " + i + " of " + count + " processes");
+                }
+                if (i == 0 || source.arrival() < minArrival)
+                    minArrival = source.arrival();
+                if (i == 0 || source.arrival() > maxArrival)
+                    maxArrival = source.arrival();
+                columns[0].put(source.pid());
+                columns[1].put(source.arrival());
+                columns[2].put(source.burst());
+                columns[3].put(source.priority());
+                columns[4].put(source.memory());
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(minArrival).putInt(maxArrival).putInt(COLUMNS);
+            header.rewind();
+            out.write(header, 0);
+        }
+    }
+
+    //This method checks the times of one record; the binary format stores any int, but the schedulers need non-negative times
+    private void check(int record, int arrivalTime, int burstTime) throws IOException {
+        if (arrivalTime < 0) {
+            throw new IOException(name + " record " + (record + 1) + ": arrival must not be negative");
+        }
+        if (burstTime < 0) {
+            throw new IOException(name + " record " + (record + 1) + ": burst must not be negative");
+        }
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (index + 1 >= count) {
+            return false;
+        }
+        index++;
+        check(index, arrival.get(index), burst.get(index));
+        return true;
+    }
+
+    @Override
+    public int pid() {
+        return pid.get(index);
+    }
+
+    @Override
+    public int arrival() {
+        return arrival.get(index);
+    }
+
+    @Override
+    public int burst() {
+        return burst.get(index);
+    }
+
+    @Override
+    public int priority() {
+        return priority.get(index);
+    }
+
+    @Override
+    public int memory() {
+        return memory.get(index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,177 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class is a binary buddy allocator: memory is a power-of-two number of minimum-size blocks, a request is rounded up
+//to a power-of-two block, and larger blocks are split in halves ("buddies") until one of that size exists
+//Each order (block size) has a bitmap of its free blocks and an intrusive free list through int columns, so finding a free
+//block, splitting, and merging a freed block with its free buddy are all O(log n) and nothing is allocated per request
+class BuddyAllocator implements Allocator {
+    //This constant marks the end of a free list
+    private static final int NIL = -1;
+
+    private final int minBlock; //This variable stores the size of the smallest block
+    private final int maxOrder; //This variable stores the order of the whole memory (it holds 2^maxOrder minimum blocks)
+    private final long[][] freeBits; //This array stores, per order, a bitmap of the blocks free at that order
+    private final int[] head; //This array stores the first free block of each order
+    private final int[] prev, next; //These arrays link the free blocks of each order, indexed by first minimum block
+    private final byte[] allocatedOrder; //This array stores the order of each allocated block, indexed by first minimum block
+    private final PageMap requested; //This map stores the size asked for by each allocated block, by address
+    private long freeBytes, requestedBytes; //These variables store the memory not allocated and the memory asked for
+    private long requests, failures; //These variables count allocation requests and failed requests
+
+    //This constructor manages the largest power-of-two multiple of minBlock that fits in memorySize
+    BuddyAllocator(int memorySize, int minBlock) {
+        if (minBlock <= 0 || memorySize < minBlock) {
+            throw new IllegalArgumentException("Buddy allocation needs a positive minimum block no larger than memory: "
+                    + minBlock + " of " + memorySize);
+        }
+        this.minBlock = minBlock;
+        maxOrder = 31 - Integer.numberOfLeadingZeros(memorySize / minBlock);
+        int blocks = 1 << maxOrder;
+        freeBits = new long[maxOrder + 1][];
+        for (int order = 0; order <= maxOrder; order++) {
+            freeBits[order] = new long[Math.max(1, ((blocks >> order) + 63) >> 6)];
+        }
+        head = new int[maxOrder + 1];
+        Arrays.fill(head, NIL);
+        prev = new int[blocks];
+        next = new int[blocks];
+        allocatedOrder = new byte[blocks];
+        Arrays.fill(allocatedOrder, (byte) -1);
+        requested = new PageMap(1 << 10);
+        push(0, maxOrder); //At first the whole memory is one free block
+        freeBytes = capacity();
+    }
+
+    //This method returns the allocator name
+    @Override
+    public String name() {
+        return "Buddy";
+    }
+
+    //This method allocates the smallest power-of-two block that holds the request, splitting a larger block if needed
+    @Override
+    public int allocate(int request) {
+        if (request <= 0) {
+            throw new IllegalArgumentException("Allocation size must be positive: " + request);
+        }
+        requests++;
+        int units = (int) ((request + (long) minBlock - 1) / minBlock);
+        int order = units == 1 ? 0 : 32 - Integer.numberOfLeadingZeros(units - 1);
+        int from = order;
+        while (from <= maxOrder && head[from] == NIL) {
+            from++;
+        }
+        if (from > maxOrder) {
+            failures++;
+            return FAILED;
+        }
+        int block = head[from];
+        pop(block, from);
+        //Split until the block has the requested order, freeing the upper half each time
+        while (from > order) {
+            from--;
+            push(block + (1 << from), from);
+        }
+        allocatedOrder[block] = (byte) order;
+        int address = block * minBlock;
+        requested.put(address, request);
+        freeBytes -= (long) minBlock << order;
+        requestedBytes += request;
+        return address;
+    }
+
+    //This method frees a block and merges it with its buddy for as long as the buddy is free too
+    @Override
+    public void free(int address) {
+        int block = address / minBlock;
+        if (address % minBlock != 0 || block >= allocatedOrder.length || allocatedOrder[block] < 0) {
+            throw new IllegalArgumentException("No block is allocated at address " + address);
+        }
+        int order = allocatedOrder[block];
+        allocatedOrder[block] = -1;
+        requestedBytes -= requested.get(address);
+        requested.remove(address);
+        freeBytes += (long) minBlock << order;
+        while (order < maxOrder) {
+            int buddy = block ^ (1 << order);
+            if (!isFree(buddy, order))
+                break;
+            pop(buddy, order);
+            block = Math.min(block, buddy);
+            order++;
+        }
+        push(block, order);
+    }
+
+    //This method returns true if the block is free as a whole at the given order
+    private boolean isFree(int block, int order) {
+        int index = block >> order;
+        return (freeBits[order][index >> 6] & (1L << index)) != 0;
+    }
+
+    //This method adds a block to the free list and bitmap of its order
+    private void push(int block, int order) {
+        int index = block >> order;
+        freeBits[order][index >> 6] |= 1L << index;
+        prev[block] = NIL;
+        next[block] = head[order];
+        if (head[order] != NIL)
+            prev[head[order]] = block;
+        head[order] = block;
+    }
+
+    //This method removes a block from the free list and bitmap of its order
+    private void pop(int block, int order) {
+        int index = block >> order;
+        freeBits[order][index >> 6] &= ~(1L << index);
+        if (prev[block] == NIL) head[order] = next[block]; else next[prev[block]] = next[block];
+        if (next[block] != NIL) prev[next[block]] = prev[block];
+    }
+
+    //This method returns the total amount of memory managed
+    @Override
+    public long capacity() {
+        return (long) minBlock << maxOrder;
+    }
+
+    //This method returns the amount of memory not allocated
+    @Override
+    public long freeBytes() {
+        return freeBytes;
+    }
+
+    //This method returns the size of the largest free block, the highest order with a free block
+    @Override
+    public long largestFree() {
+        for (int order = maxOrder; order >= 0; order--) {
+            if (head[order] != NIL)
+                return (long) minBlock << order;
+        }
+        return 0;
+    }
+
+    //This method returns the memory held by allocated blocks, including the rounding up to powers of two
+    @Override
+    public long allocatedBytes() {
+        return capacity() - freeBytes;
+    }
+
+    //This method returns the memory asked for by the blocks still allocated
+    @Override
+    public long requestedBytes() {
+        return requestedBytes;
+    }
+
+    //This method returns the number of allocation requests made so far
+    @Override
+    public long requests() {
+        return requests;
+    }
+
+    //This method returns the number of allocation requests that failed
+    @Override
+    public long failures() {
+        return failures;
+    }
+}
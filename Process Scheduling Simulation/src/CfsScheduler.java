@@ -0,0 +1,102 @@
+//This class runs a Completely Fair Scheduler in the style of Linux CFS against a ProcessTable
+//Each ready process is keyed by its virtual runtime in a red-black tree (ReadyTree) and the leftmost one runs next
+//A process's virtual runtime grows by the time it runs divided by its weight, and the weight comes from its priority the way
+//a nice value does: priority 0 is nice 0, each priority level above 0 is one nice level higher in importance (about 25% more CPU)
+//A dispatched process gets its weighted share of the target latency, but never less than the minimum granularity
+final class CfsScheduler {
+    //These constants are the weights of nice levels -20 to 19, the table Linux uses
+    private static final int[] NICE_TO_WEIGHT = {
+            88761, 71755, 56483, 46273, 36291, 29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906, 3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423, 335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45, 36, 29, 23, 18, 15};
+    private static final int NICE_0_INDEX = 20; //This constant is the table index of nice 0
+
+    //These constants are the default target latency and minimum granularity in time units
+    static final int DEFAULT_LATENCY = 24, DEFAULT_MIN_GRANULARITY = 3;
+
+    private CfsScheduler() {
+    }
+
+    //This method returns the weight of a priority value; priorities beyond nice -20 or 19 use the end of the table
+    static int weight(int priority) {
+        return NICE_TO_WEIGHT[Math.max(0, Math.min(NICE_TO_WEIGHT.length - 1, NICE_0_INDEX - priority))];
+    }
+
+    //This method simulates CFS with the given target latency and minimum granularity
+    //Arrivals join at the smallest virtual runtime in the system, so a newcomer neither starves nor takes over the CPU;
+    //like Round Robin, processes that arrive during a slice are queued when the slice ends
+    static ScheduleResult cfs(ProcessTable table, ProcessTable.RunState run, GanttSink gantt, int latency, int minGranularity) {
+        //If either time is not positive, slices would never make progress
+        if (latency <= 0 || minGranularity <= 0) {
+            throw new IllegalArgumentException("Latency and minimum granularity must be positive: " + latency + ", " + minGranularity);
+        }
+        long startNanos = System.nanoTime();
+        run.reset(table);
+        int[] byArrival = table.byArrival();
+        long[] vruntime = new long[table.size]; //This column stores the virtual runtime of each row, scaled by 2^32
+        long[] inverseWeight = new long[table.size]; //This column stores 2^32 divided by each row's weight
+        long[] sequence = new long[table.size]; //This column stores when each row last joined the tree, the tie-breaker
+        ReadyTree ready = new ReadyTree(table.size, (a, b) -> {
+            if (vruntime[a] != vruntime[b])
+                return Long.compare(vruntime[a], vruntime[b]);
+            return Long.compare(sequence[a], sequence[b]);
+        });
+        long enqueued = 0; //This variable counts the insertions into the tree
+        long totalWeight = 0; //This variable stores the total weight of the ready and running rows
+        long minVruntime = 0; //This variable stores the smallest virtual runtime in the system; it never decreases
+        int next = 0; //This cursor points at the next row that has not arrived yet
+        int time = 0;
+        while (run.finished < table.size) {
+            //If no row is ready, the CPU is idle until the next arrival
+            if (ready.isEmpty() && time < table.arrival[byArrival[next]]) {
+                int nextArrival = table.arrival[byArrival[next]];
+                if (gantt != null)
+                    gantt.add(GanttLog.IDLE, time, nextArrival);
+                time = nextArrival;
+            }
+            //Admit every row that has arrived by the current time
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                int row = byArrival[next++];
+                int weight = weight(table.priority[row]);
+                inverseWeight[row] = (1L << 32) / weight;
+                vruntime[row] = minVruntime;
+                sequence[row] = enqueued++;
+                totalWeight += weight;
+                ready.add(row);
+            }
+            int current = ready.poll(); //Dispatch the row with the smallest virtual runtime
+            int weight = weight(table.priority[current]);
+            long share = latency * (long) weight / totalWeight; //This is the row's weighted share of the target latency
+            int slice = (int) Math.min(run.remaining[current], Math.max(minGranularity, share));
+            int start = run.dispatch(current, time, gantt);
+            time = start + slice;
+            run.remaining[current] -= slice;
+            vruntime[current] += slice * inverseWeight[current];
+            if (gantt != null)
+                gantt.add(table.pid[current], start, time);
+            //The smallest virtual runtime is the running row's or the leftmost ready row's, whichever is smaller
+            long smallest = ready.isEmpty() ? vruntime[current] : Math.min(vruntime[current], vruntime[ready.peek()]);
+            minVruntime = Math.max(minVruntime, smallest);
+            //Rows that arrived during this slice are queued before the running row goes back into the tree
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                int row = byArrival[next++];
+                int rowWeight = weight(table.priority[row]);
+                inverseWeight[row] = (1L << 32) / rowWeight;
+                vruntime[row] = minVruntime;
+                sequence[row] = enqueued++;
+                totalWeight += rowWeight;
+                ready.add(row);
+            }
+            if (run.remaining[current] > 0) {
+                sequence[current] = enqueued++;
+                ready.add(current);
+            } else {
+                totalWeight -= weight;
+                run.complete(current, time);
+            }
+        }
+        return new ScheduleResult("CFS", "CFS Scheduling (Latency = " + latency + ", Min Granularity = " + minGranularity + ")", 0,
+                table, run, gantt, true, true, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,93 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class simulates Clock (second-chance) page replacement over a fixed number of frames
+//Each frame has a reference bit that a hit sets; on a fault the hand sweeps the ring, clearing set bits,
+//and evicts the first page whose bit is already clear, which approximates LRU with only one bit per frame
+class ClockReplacement implements ReplacementPolicy {
+    private final int[] frame; //This array stores the page held in each frame
+    private final boolean[] referenced; //This array stores the reference bit of each frame
+    private final PageMap resident; //This map stores the frame of every resident page
+    private int hand; //This variable points at the next frame the hand will inspect
+    private int used; //This variable stores the number of frames filled so far
+    private long references, faults, evictions; //These variables count what happened during the run
+
+    //This constructor creates an empty memory with the given number of frames
+    ClockReplacement(int numFrames) {
+        resident = new PageMap(numFrames);
+        frame = new int[numFrames];
+        referenced = new boolean[numFrames];
+    }
+
+    //This method returns the policy name
+    @Override
+    public String name() {
+        return "Clock";
+    }
+
+    //This method references a page and returns true if it was already resident (a hit)
+    @Override
+    public boolean access(int page) {
+        references++;
+        int f = resident.get(page);
+        if (f != PageMap.ABSENT) {
+            referenced[f] = true; //Give the page a second chance
+            return true;
+        }
+        faults++;
+        if (used < frame.length) { //If there is a free frame, fill it
+            f = used++;
+        } else { //Otherwise sweep until a page without a second chance is found
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = hand + 1 == frame.length ? 0 : hand + 1;
+            }
+            f = hand;
+            resident.remove(frame[f]);
+            evictions++;
+            hand = hand + 1 == frame.length ? 0 : hand + 1;
+        }
+        frame[f] = page;
+        referenced[f] = false;
+        resident.put(page, f);
+        return false;
+    }
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    @Override
+    public long run(int[] pageReferences, int from, int to) {
+        long before = faults;
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+        return faults - before;
+    }
+
+    //This method empties every frame and zeroes the counters
+    @Override
+    public void reset() {
+        resident.clear();
+        Arrays.fill(referenced, false);
+        hand = 0;
+        used = 0;
+        references = faults = evictions = 0;
+    }
+
+    //This method returns the number of pages referenced so far
+    @Override
+    public long references() {
+        return references;
+    }
+
+    //This method returns the number of references that found their page missing
+    @Override
+    public long faults() {
+        return faults;
+    }
+
+    //This method returns the number of resident pages that were replaced
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,50 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.io.Writer;
+
+//This class renders ScheduleResults as CSV with one row per process
+//The header row is written once, so results from several runs can share one file
+class CsvResultSink implements ResultSink {
+    private final Writer out; //This variable stores the writer every result is rendered to
+    private boolean headerWritten; //This variable is true once the header row has been written
+
+    //This constructor creates a sink that writes to the given (ideally buffered) writer
+    CsvResultSink(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(ScheduleResult result) throws IOException {
+        if (!headerWritten) {
+            out.write("algorithm,time_quantum,pid,arrival,burst,priority,cpu_init,completion,waiting,turnaround\n");
+            headerWritten = true;
+        }
+        ProcessTable table = result.table;
+        ProcessTable.RunState run = result.run;
+        String prefix = result.algorithm + "," + result.timeQuantum + ",";
+        for (int row : result.reportOrder()) {
+            out.write(prefix);
+            out.write(Integer.toString(table.pid[row]));
+            out.write(',');
+            out.write(Integer.toString(table.arrival[row]));
+            out.write(',');
+            out.write(Integer.toString(table.burst[row]));
+            out.write(',');
+            out.write(Integer.toString(table.priority[row]));
+            out.write(',');
+            out.write(Integer.toString(run.cpuInit[row]));
+            out.write(',');
+            out.write(Integer.toString(run.completion[row]));
+            out.write(',');
+            out.write(Integer.toString(run.waiting(table, row)));
+            out.write(',');
+            out.write(Integer.toString(run.turnaround(table, row)));
+            out.write('\n');
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,53 @@
+//This class holds the time a CPU loses when it switches from one process to another
+//Every context switch costs the switch time; a process that already ran and was then preempted or migrated also pays the warm-up time,
+//which stands for the cache and TLB misses it takes before it runs at full speed again
+//The time lost is charged before the dispatched process starts and is shown as its own Gantt segment (GanttLog.SWITCH)
+final class DispatchCost {
+    //This constant is the cost model in which dispatching is free, the default
+    static final DispatchCost NONE = new DispatchCost(0, 0);
+
+    final int switchTime; //This variable stores the time taken by each context switch
+    final int warmupTime; //This variable stores the extra time taken to resume a process that was preempted or migrated
+
+    //This constructor creates a cost model; neither time may be negative
+    DispatchCost(int switchTime, int warmupTime) {
+        //If either time is negative, a switch would give the CPU time back
+        if (switchTime < 0 || warmupTime < 0) {
+            throw new IllegalArgumentException("Context-switch and warm-up times must not be negative: " + switchTime + ", " + warmupTime);
+        }
+        this.switchTime = switchTime;
+        this.warmupTime = warmupTime;
+    }
+
+    //This method returns the time lost by a context switch to a process; resumed is true if the process ran before the switch
+    int overhead(boolean resumed) {
+        return resumed ? switchTime + warmupTime : switchTime;
+    }
+
+    //This method returns true if switching costs nothing
+    boolean isFree() {
+        return switchTime == 0 && warmupTime == 0;
+    }
+
+    //This method reads the cost model from the command line options: --switch-cost N  --warmup N
+    static DispatchCost fromArgs(String[] args) {
+        String switchTime = OperatingSystemSchedulesProcesses.optionValue(args, "--switch-cost");
+        String warmupTime = OperatingSystemSchedulesProcesses.optionValue(args, "--warmup");
+        if (switchTime == null && warmupTime == null) {
+            return NONE;
+        }
+        return new DispatchCost(parseTime(switchTime, "--switch-cost"), parseTime(warmupTime, "--warmup"));
+    }
+
+    //This method parses the value of one time option, which is 0 when the option is absent
+    private static int parseTime(String value, String option) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) { //If the value is not a whole number, name the option instead of echoing the parser
+            throw new IllegalArgumentException(option + " must be a non-negative integer: " + value);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+//Importing the necessary libraries
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+//This class turns a recorded scheduler event log into process records, reading the log incrementally
+//Each line is "<timestamp> <event> <pid> [priority [memory]]"; blank lines and lines starting with '#' are skipped:
+//  fork, exec   the task starts (or replaces its program) and is runnable; the optional fields set its priority and memory
+//  wakeup       the task becomes runnable again
+//  block        the task stops running to wait for something
+//  exit         the task ends and is forgotten
+//Timestamps may have a fraction and a trailing ':' (as perf script prints them); they are multiplied by the scale, rounded,
+//and counted from the first event, so "--event-scale 1000000" turns seconds into microsecond time units
+//Every interval in which a task was runnable (from fork, exec or wakeup to block or exit) becomes one record of that task's
+//PID: its arrival is the start of the interval and its burst is the length, at least one time unit
+//Records finish out of order (a long interval ends after shorter ones that started later), so finished records wait in a heap
+//until no interval still open started before them, and are then returned in arrival order, as the streaming schedulers need;
+//an interval longer than the maximum burst is cut into several records, which bounds that wait
+//Memory therefore grows with the number of live tasks and the records finished within one maximum burst, not with the log length
+final class EventLogReader implements ProcessSource {
+    //This constant is the longest burst a record gets before an interval is cut, used when --max-burst is not given
+    static final int DEFAULT_MAX_BURST = 1_000_000;
+
+    //These constants are the event kinds
+    private static final int FORK = 0, EXEC = 1, WAKEUP = 2, BLOCK = 3, EXIT = 4;
+    private static final String[] EVENT_NAMES = {"fork", "exec", "wakeup", "block", "exit"};
+    //This constant is the scale of the finest fraction of a timestamp that is used (nanoseconds of a second)
+    private static final long MAX_FRACTION_SCALE = 1_000_000_000L;
+
+    private final String name; //This variable stores the file name used in error messages
+    private final InputStream in; //This stream reads the log
+    private final long scale; //This variable stores the number of time units per log time unit
+    private final int maxBurst; //This variable stores the longest burst of one record, or 0 if intervals are never cut
+    private byte[] text = new byte[256]; //This array stores the current line
+    private long line; //This variable stores the 1-based number of the current line
+    private long origin = -1; //This variable stores the scaled timestamp of the first event
+    private int now; //This variable stores the time of the last event read
+    private boolean exhausted; //This variable is true once the whole log has been read
+
+    //These variables describe the event just read
+    private int eventKind, eventPid, eventFields, eventPriority, eventMemory;
+
+    private final PageMap tasks = new PageMap(1024); //This map finds the slot of a live task by its PID
+    private int[] taskPid, openSince, taskPriority, taskMemory; //These columns describe each task slot; openSince is -1 unless runnable
+    private final IntQueue freeTasks = new IntQueue(64); //This queue stores task slots that can be reused
+    private int usedTasks; //This variable stores the number of task slots handed out so far
+    private final ReadyHeap open; //This heap orders the runnable tasks by the start of their interval
+
+    private int[] recordPid, recordArrival, recordBurst, recordPriority, recordMemory; //These columns describe each finished record
+    private long[] recordSequence; //This column stores the order records finished in, the tie-breaker
+    private final IntQueue freeRecords = new IntQueue(64); //This queue stores record slots that can be reused
+    private int usedRecords; //This variable stores the number of record slots handed out so far
+    private long finished; //This variable counts the records finished so far
+    private final ReadyHeap pending; //This heap orders the finished records that were not returned yet by arrival
+
+    private int pid, arrival, burst, priority, memory; //These variables store the fields of the current record
+
+    //This constructor opens the log; scale is the number of time units per log time unit and maxBurst 0 never cuts an interval
+    EventLogReader(Path path, long scale, int maxBurst) throws IOException {
+        //If the scale is not positive, every timestamp would collapse to 0
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Event scale must be positive: " + scale);
+        }
+        //If the maximum burst is negative, no record could be cut
+        if (maxBurst < 0) {
+            throw new IllegalArgumentException("Maximum burst must not be negative: " + maxBurst);
+        }
+        this.name = String.valueOf(path.getFileName());
+        this.scale = scale;
+        this.maxBurst = maxBurst;
+        int capacity = 64;
+        taskPid = new int[capacity];
+        openSince = new int[capacity];
+        taskPriority = new int[capacity];
+        taskMemory = new int[capacity];
+        recordPid = new int[capacity];
+        recordArrival = new int[capacity];
+        recordBurst = new int[capacity];
+        recordPriority = new int[capacity];
+        recordMemory = new int[capacity];
+        recordSequence = new long[capacity];
+        open = new ReadyHeap(capacity, (a, b) -> openSince[a] != openSince[b] ? Integer.compare(openSince[a], openSince[b])
+                : Integer.compare(taskPid[a], taskPid[b]));
+        pending = new ReadyHeap(capacity, (a, b) -> recordArrival[a] != recordArrival[b] ? Integer.compare(recordArrival[a], recordArrival[b])
+                : Long.compare(recordSequence[a], recordSequence[b]));
+        this.in = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+    }
+
+    //This method opens a log with the scale and maximum burst from the command line options: --event-scale N  --max-burst N
+    static EventLogReader fromArgs(Path path, String[] args) throws IOException {
+        String scaleOption = OperatingSystemSchedulesProcesses.optionValue(args, "--event-scale");
+        String maxBurstOption = OperatingSystemSchedulesProcesses.optionValue(args, "--max-burst");
+        return new EventLogReader(path, scaleOption == null ? 1 : Long.parseLong(scaleOption.trim()),
+                maxBurstOption == null ? DEFAULT_MAX_BURST : Integer.parseInt(maxBurstOption.trim()));
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        while (true) {
+            if (!pending.isEmpty()) {
+                int record = pending.peek();
+                //A finished record is safe to return once no open interval started before it; every later record
+                //starts at an open interval or at a later event, so arrivals never go backwards
+                if (exhausted || open.isEmpty() || recordArrival[record] <= openSince[open.peek()]) {
+                    pending.poll();
+                    pid = recordPid[record];
+                    arrival = recordArrival[record];
+                    burst = recordBurst[record];
+                    priority = recordPriority[record];
+                    memory = recordMemory[record];
+                    freeRecords.add(record);
+                    return true;
+                }
+            }
+            if (exhausted) {
+                return false;
+            }
+            if (!readEvent()) {
+                //The log ended: intervals still open end with the last event
+                while (!open.isEmpty()) {
+                    close(open.peek(), now);
+                }
+                exhausted = true;
+                continue;
+            }
+            //Intervals longer than the maximum burst by now are cut first, so no record is longer than the maximum burst
+            //and the records behind a long interval are not held back
+            while (maxBurst > 0 && !open.isEmpty() && now - openSince[open.peek()] > maxBurst) {
+                int task = open.peek();
+                finish(task, openSince[task], maxBurst);
+                openSince[task] += maxBurst;
+                open.update(task);
+            }
+            apply();
+        }
+    }
+
+    //This method applies the event just read to the task it names
+    private void apply() {
+        int task = tasks.get(eventPid);
+        if (eventKind == BLOCK || eventKind == EXIT) {
+            //A task that is not known or not runnable has no interval to end (the log may start in the middle of its life)
+            if (task == PageMap.ABSENT)
+                return;
+            if (openSince[task] != -1) {
+                close(task, now);
+            }
+            if (eventKind == EXIT) {
+                tasks.remove(eventPid);
+                freeTasks.add(task);
+            }
+            return;
+        }
+        if (task == PageMap.ABSENT) {
+            task = newTask(eventPid);
+        }
+        if (eventFields > 0)
+            taskPriority[task] = eventPriority;
+        if (eventFields > 1)
+            taskMemory[task] = eventMemory;
+        //A task that is already runnable stays in the interval it is in (wakeups of running tasks are common in real logs)
+        if (openSince[task] == -1) {
+            openSince[task] = now;
+            open.add(task);
+        }
+    }
+
+    //This method returns a fresh slot for a task that was not seen before
+    private int newTask(int taskId) {
+        int task;
+        if (!freeTasks.isEmpty()) {
+            task = freeTasks.poll();
+        } else {
+            task = usedTasks++;
+            if (task == taskPid.length) {
+                int capacity = taskPid.length * 2;
+                taskPid = Arrays.copyOf(taskPid, capacity);
+                openSince = Arrays.copyOf(openSince, capacity);
+                taskPriority = Arrays.copyOf(taskPriority, capacity);
+                taskMemory = Arrays.copyOf(taskMemory, capacity);
+            }
+        }
+        taskPid[task] = taskId;
+        openSince[task] = -1;
+        taskPriority[task] = 0;
+        taskMemory[task] = TraceReader.DEFAULT_MEMORY;
+        tasks.put(taskId, task);
+        return task;
+    }
+
+    //This method ends the open interval of a task at the given time
+    private void close(int task, int time) {
+        open.remove(task);
+        finish(task, openSince[task], time - openSince[task]);
+        openSince[task] = -1;
+    }
+
+    //This method stores a finished record of a task until it can be returned
+    private void finish(int task, int start, int length) {
+        int record;
+        if (!freeRecords.isEmpty()) {
+            record = freeRecords.poll();
+        } else {
+            record = usedRecords++;
+            if (record == recordPid.length) {
+                int capacity = recordPid.length * 2;
+                recordPid = Arrays.copyOf(recordPid, capacity);
+                recordArrival = Arrays.copyOf(recordArrival, capacity);
+                recordBurst = Arrays.copyOf(recordBurst, capacity);
+                recordPriority = Arrays.copyOf(recordPriority, capacity);
+                recordMemory = Arrays.copyOf(recordMemory, capacity);
+                recordSequence = Arrays.copyOf(recordSequence, capacity);
+            }
+        }
+        recordPid[record] = taskPid[task];
+        recordArrival[record] = start;
+        recordBurst[record] = Math.max(1, length); //An interval shorter than the time unit still took the CPU once
+        recordPriority[record] = taskPriority[task];
+        recordMemory[record] = taskMemory[task];
+        recordSequence[record] = finished++;
+        pending.add(record);
+    }
+
+    //This method reads the next event line into the event fields and returns false at the end of the log
+    private boolean readEvent() throws IOException {
+        while (true) {
+            int length = 0;
+            int b = in.read();
+            if (b == -1) {
+                return false;
+            }
+            line++;
+            while (b != -1 && b != '\n') {
+                if (length == text.length) {
+                    text = Arrays.copyOf(text, length * 2);
+                }
+                text[length++] = (byte) b;
+                b = in.read();
+            }
+            int pos = skipBlanks(0, length);
+            //Blank lines and comments carry no event
+            if (pos == length || text[pos] == '#') {
+                continue;
+            }
+            int end = tokenEnd(pos, length);
+            long time = parseTimestamp(pos, end);
+            pos = skipBlanks(end, length);
+            end = tokenEnd(pos, length);
+            eventKind = parseKind(pos, end);
+            pos = skipBlanks(end, length);
+            end = tokenEnd(pos, length);
+            if (pos == end) {
+                throw new TraceFormatException(name, line, "missing PID");
+            }
+            eventPid = parseInt(pos, end, "PID");
+            eventFields = 0;
+            for (pos = skipBlanks(end, length); pos < length; pos = skipBlanks(end, length)) {
+                end = tokenEnd(pos, length);
+                //Only fork and exec carry a priority and memory requirement
+                if ((eventKind != FORK && eventKind != EXEC) || eventFields == 2) {
+                    throw new TraceFormatException(name, line, "unexpected field after " + EVENT_NAMES[eventKind] + " " + eventPid);
+                }
+                int value = parseInt(pos, end, eventFields == 0 ? "priority" : "memory");
+                if (eventFields++ == 0) {
+                    eventPriority = value;
+                } else {
+                    eventMemory = value;
+                }
+            }
+            //Convert the timestamp to time units from the first event
+            if (origin == -1) {
+                origin = time;
+            }
+            long relative = time - origin;
+            if (relative < now) {
+                throw new TraceFormatException(name, line, "timestamp goes backwards; sort the log by time first");
+            }
+            if (relative > Integer.MAX_VALUE) {
+                throw new TraceFormatException(name, line, "time " + relative + " since the first event does not fit in an int; use a smaller --event-scale");
+            }
+            now = (int) relative;
+            return true;
+        }
+    }
+
+    //This method returns the first position at or after pos that is not a space, tab or carriage return
+    private int skipBlanks(int pos, int length) {
+        while (pos < length && (text[pos] == ' ' || text[pos] == '\t' || text[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    //This method returns the position just after the token that starts at pos
+    private int tokenEnd(int pos, int length) {
+        while (pos < length && text[pos] != ' ' && text[pos] != '\t' && text[pos] != '\r') {
+            pos++;
+        }
+        return pos;
+    }
+
+    //This method parses a timestamp such as "12", "12.345" or "12.345678:" and returns it multiplied by the scale
+    private long parseTimestamp(int pos, int end) throws TraceFormatException {
+        if (end > pos && text[end - 1] == ':') {
+            end--; //perf script ends the timestamp with a colon
+        }
+        long whole = 0, fraction = 0, fractionScale = 1;
+        boolean point = false;
+        int digits = 0;
+        for (int i = pos; i < end; i++) {
+            byte c = text[i];
+            if (c == '.' && !point) {
+                point = true;
+            } else if (c >= '0' && c <= '9') {
+                digits++;
+                if (!point) {
+                    if (whole > (Long.MAX_VALUE - (c - '0')) / 10) {
+                        throw new TraceFormatException(name, line, "timestamp out of range");
+                    }
+                    whole = whole * 10 + (c - '0');
+                } else if (fractionScale < MAX_FRACTION_SCALE) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionScale *= 10;
+                }
+            } else {
+                throw new TraceFormatException(name, line, "invalid timestamp '" + new String(text, pos, end - pos) + "'");
+            }
+        }
+        if (digits == 0) {
+            throw new TraceFormatException(name, line, "invalid timestamp '" + new String(text, pos, end - pos) + "'");
+        }
+        if (whole > Long.MAX_VALUE / scale / 2) {
+            throw new TraceFormatException(name, line, "timestamp out of range for --event-scale " + scale);
+        }
+        //Round the fraction to the nearest time unit, splitting the product so it cannot overflow
+        long scaledFraction = scale / fractionScale * fraction
+                + ((scale % fractionScale) * fraction * 2 + fractionScale) / (2 * fractionScale);
+        return whole * scale + scaledFraction;
+    }
+
+    //This method returns the kind of the event named by the token
+    private int parseKind(int pos, int end) throws TraceFormatException {
+        for (int kind = 0; kind < EVENT_NAMES.length; kind++) {
+            String event = EVENT_NAMES[kind];
+            if (end - pos == event.length()) {
+                int i = 0;
+                while (i < event.length() && text[pos + i] == event.charAt(i)) {
+                    i++;
+                }
+                if (i == event.length()) {
+                    return kind;
+                }
+            }
+        }
+        throw new TraceFormatException(name, line, "unknown event '" + new String(text, pos, end - pos)
+                + "' (expected fork, exec, wakeup, block or exit)");
+    }
+
+    //This method parses a signed int token
+    private int parseInt(int pos, int end, String field) throws TraceFormatException {
+        boolean negative = pos < end && text[pos] == '-';
+        long value = 0;
+        int i = negative ? pos + 1 : pos;
+        if (i == end) {
+            throw new TraceFormatException(name, line, "invalid " + field + " '" + new String(text, pos, end - pos) + "'");
+        }
+        for (; i < end; i++) {
+            byte c = text[i];
+            if (c < '0' || c > '9') {
+                throw new TraceFormatException(name, line, "invalid " + field + " '" + new String(text, pos, end - pos) + "'");
+            }
+            value = value * 10 + (c - '0');
+            if (value > (negative ? 1L << 31 : Integer.MAX_VALUE)) {
+                throw new TraceFormatException(name, line, field + " out of range");
+            }
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    @Override
+    public int pid() {
+        return pid;
+    }
+
+    @Override
+    public int arrival() {
+        return arrival;
+    }
+
+    @Override
+    public int burst() {
+        return burst;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public int memory() {
+        return memory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
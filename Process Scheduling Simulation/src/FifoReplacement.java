@@ -0,0 +1,85 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class simulates FIFO page replacement over a fixed number of frames
+//The frames form a ring buffer filled in load order, so the oldest page is always at the hand and a fault is O(1)
+//A PageMap answers "is this page resident?" in O(1), so a reference never scans the frames and never allocates
+class FifoReplacement implements ReplacementPolicy {
+    private final int[] frame; //This array stores the page held in each frame, in load order around the ring
+    private final PageMap resident; //This map stores the frame of every resident page
+    private int hand; //This variable points at the frame holding the oldest page
+    private int used; //This variable stores the number of frames filled so far
+    private long references, faults, evictions; //These variables count what happened during the run
+
+    //This constructor creates an empty memory with the given number of frames
+    FifoReplacement(int numFrames) {
+        resident = new PageMap(numFrames);
+        frame = new int[numFrames];
+    }
+
+    //This method returns the policy name
+    @Override
+    public String name() {
+        return "FIFO";
+    }
+
+    //This method references a page and returns true if it was already resident (a hit)
+    @Override
+    public boolean access(int page) {
+        references++;
+        if (resident.get(page) != PageMap.ABSENT) {
+            return true;
+        }
+        faults++;
+        int target;
+        if (used < frame.length) { //If there is a free frame, fill it
+            target = used++;
+        } else { //Otherwise evict the oldest page, which sits at the hand
+            target = hand;
+            resident.remove(frame[target]);
+            evictions++;
+            hand = hand + 1 == frame.length ? 0 : hand + 1;
+        }
+        frame[target] = page;
+        resident.put(page, target);
+        return false;
+    }
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    @Override
+    public long run(int[] pageReferences, int from, int to) {
+        long before = faults;
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+        return faults - before;
+    }
+
+    //This method empties every frame and zeroes the counters
+    @Override
+    public void reset() {
+        resident.clear();
+        Arrays.fill(frame, 0);
+        hand = 0;
+        used = 0;
+        references = faults = evictions = 0;
+    }
+
+    //This method returns the number of pages referenced so far
+    @Override
+    public long references() {
+        return references;
+    }
+
+    //This method returns the number of references that found their page missing
+    @Override
+    public long faults() {
+        return faults;
+    }
+
+    //This method returns the number of resident pages that were replaced
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,386 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class is a variable-partition allocator that keeps its free holes in two treaps over one pool of hole nodes
+//The address-ordered treap finds a freed block's neighbours for coalescing and, because every node also stores the largest
+//hole in its subtree, finds the lowest-addressed hole that fits for first-fit and next-fit; the size-ordered treap finds
+//the smallest hole that fits for best-fit and the largest hole for worst-fit
+//Allocation and free are O(log holes), holes are nodes in int columns, and allocated blocks are tracked in a PageMap
+//(used here as an address-to-size map), so millions of events can be replayed without creating objects
+class FreeListAllocator implements Allocator {
+    //This enum lists the placement strategies
+    enum Fit { FIRST, BEST, WORST, NEXT }
+
+    //This constant marks a missing node
+    private static final int NIL = -1;
+
+    private final Fit fit; //This variable stores the placement strategy
+    private int[] start, size; //These columns store the start address and size of each hole node
+    private int nodes; //This variable stores the number of node slots handed out so far
+    private final IntQueue freeNodes = new IntQueue(64); //This queue stores node slots that can be reused
+    private final HoleTree byAddress = new HoleTree(false), bySize = new HoleTree(true); //These treaps order the holes
+    private final PageMap blocks = new PageMap(1 << 10); //This map stores the size of every allocated block by address
+    private long capacity, freeBytes; //These variables store the memory managed and the memory not allocated
+    private long requests, failures; //These variables count allocation requests and failed requests
+    private int rover; //This variable stores the address next-fit continues searching from
+    private long seed = 0x9E3779B97F4A7C15L; //This variable drives the treap priorities, fixed so runs are reproducible
+
+    //This constructor creates an allocator with no free memory; holes are added with addFree
+    FreeListAllocator(Fit fit) {
+        this.fit = fit;
+        start = new int[64];
+        size = new int[64];
+    }
+
+    //This constructor creates an allocator managing addresses 0 to memorySize - 1 as one free hole
+    FreeListAllocator(Fit fit, int memorySize) {
+        this(fit);
+        addFree(0, memorySize);
+    }
+
+    //This method returns the allocator name
+    @Override
+    public String name() {
+        switch (fit) {
+            case FIRST:
+                return "First-Fit";
+            case BEST:
+                return "Best-Fit";
+            case WORST:
+                return "Worst-Fit";
+            default:
+                return "Next-Fit";
+        }
+    }
+
+    //This method allocates a block from the hole chosen by the placement strategy
+    @Override
+    public int allocate(int request) {
+        if (request <= 0) {
+            throw new IllegalArgumentException("Allocation size must be positive: " + request);
+        }
+        requests++;
+        int hole;
+        switch (fit) {
+            case FIRST:
+                hole = byAddress.lowestFit(byAddress.root, 0, request);
+                break;
+            case BEST:
+                hole = bySize.ceiling((long) request << 32);
+                break;
+            case WORST:
+                hole = bySize.last(); //The largest hole, the highest-addressed one if several are equally large
+                if (hole != NIL && size[hole] < request)
+                    hole = NIL;
+                break;
+            default:
+                //Continue from where the last allocation ended, wrapping around to the lowest address
+                hole = byAddress.lowestFit(byAddress.root, rover, request);
+                if (hole == NIL)
+                    hole = byAddress.lowestFit(byAddress.root, 0, request);
+                break;
+        }
+        if (hole == NIL) {
+            failures++;
+            return FAILED;
+        }
+        int address = start[hole];
+        byAddress.remove(hole);
+        bySize.remove(hole);
+        if (size[hole] == request) { //The hole is used up
+            freeNodes.addLast(hole);
+        } else { //Keep the rest of the hole
+            start[hole] += request;
+            size[hole] -= request;
+            byAddress.insert(hole);
+            bySize.insert(hole);
+        }
+        blocks.put(address, request);
+        freeBytes -= request;
+        rover = address + request;
+        return address;
+    }
+
+    //This method frees an allocated block and merges it with free neighbours
+    @Override
+    public void free(int address) {
+        int length = blocks.get(address);
+        if (length == PageMap.ABSENT) {
+            throw new IllegalArgumentException("No block is allocated at address " + address);
+        }
+        blocks.remove(address);
+        release(address, length);
+    }
+
+    //This method adds a range of addresses to the free memory managed by the allocator
+    void addFree(int address, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Hole size must be positive: " + length);
+        }
+        capacity += length;
+        release(address, length);
+    }
+
+    //This method inserts a free range as a hole, merging it with the holes directly before and after it
+    private void release(int address, int length) {
+        freeBytes += length;
+        int before = byAddress.below(address);
+        if (before != NIL && start[before] + size[before] == address) {
+            byAddress.remove(before);
+            bySize.remove(before);
+            address = start[before];
+            length += size[before];
+            freeNodes.addLast(before);
+        }
+        int after = byAddress.above(address);
+        if (after != NIL && address + length == start[after]) {
+            byAddress.remove(after);
+            bySize.remove(after);
+            length += size[after];
+            freeNodes.addLast(after);
+        }
+        int hole = newNode();
+        start[hole] = address;
+        size[hole] = length;
+        byAddress.insert(hole);
+        bySize.insert(hole);
+    }
+
+    //This method takes a free node slot, growing the columns when every slot is in use
+    private int newNode() {
+        if (!freeNodes.isEmpty()) {
+            return freeNodes.pollFirst();
+        }
+        if (nodes == start.length) {
+            start = Arrays.copyOf(start, nodes * 2);
+            size = Arrays.copyOf(size, nodes * 2);
+        }
+        byAddress.ensure(nodes + 1);
+        bySize.ensure(nodes + 1);
+        return nodes++;
+    }
+
+    //This method returns the holes in address order as start, size pairs
+    int[] holes() {
+        int[] pairs = new int[2 * byAddress.count];
+        byAddress.collect(byAddress.root, pairs, 0);
+        return pairs;
+    }
+
+    //This method returns the total amount of memory managed
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    //This method returns the amount of memory not allocated
+    @Override
+    public long freeBytes() {
+        return freeBytes;
+    }
+
+    //This method returns the size of the largest free block
+    @Override
+    public long largestFree() {
+        int hole = bySize.last();
+        return hole == NIL ? 0 : size[hole];
+    }
+
+    //This method returns the memory held by allocated blocks, which is exactly what was asked for
+    @Override
+    public long allocatedBytes() {
+        return capacity - freeBytes;
+    }
+
+    //This method returns the memory asked for by the blocks still allocated
+    @Override
+    public long requestedBytes() {
+        return capacity - freeBytes;
+    }
+
+    //This method returns the number of allocation requests made so far
+    @Override
+    public long requests() {
+        return requests;
+    }
+
+    //This method returns the number of allocation requests that failed
+    @Override
+    public long failures() {
+        return failures;
+    }
+
+    //This class is a treap over the allocator's hole nodes, ordered by address or by size (then address)
+    //Each node also stores the largest hole size in its subtree, which lets lowestFit skip subtrees that cannot fit
+    private final class HoleTree {
+        private final boolean orderedBySize; //This variable is true for the size-ordered treap
+        private int[] left = new int[64], right = new int[64], priority = new int[64], maxSize = new int[64];
+        private int root = NIL; //This variable stores the root node
+        private int count; //This variable stores the number of nodes in the treap
+        private int splitLeft, splitRight; //These variables return the two halves of a split
+
+        HoleTree(boolean orderedBySize) {
+            this.orderedBySize = orderedBySize;
+        }
+
+        //This method grows the columns so they can hold the given number of nodes
+        void ensure(int capacity) {
+            if (capacity > left.length) {
+                int grown = Math.max(capacity, left.length * 2);
+                left = Arrays.copyOf(left, grown);
+                right = Arrays.copyOf(right, grown);
+                priority = Arrays.copyOf(priority, grown);
+                maxSize = Arrays.copyOf(maxSize, grown);
+            }
+        }
+
+        //This method returns the ordering key of a node
+        private long key(int n) {
+            return orderedBySize ? ((long) size[n] << 32) | start[n] : start[n];
+        }
+
+        //This method recomputes the largest hole size in a node's subtree
+        private void pull(int n) {
+            int largest = size[n];
+            if (left[n] != NIL && maxSize[left[n]] > largest)
+                largest = maxSize[left[n]];
+            if (right[n] != NIL && maxSize[right[n]] > largest)
+                largest = maxSize[right[n]];
+            maxSize[n] = largest;
+        }
+
+        //This method splits a subtree into nodes with keys below k (splitLeft) and the rest (splitRight)
+        private void split(int t, long k) {
+            if (t == NIL) {
+                splitLeft = splitRight = NIL;
+            } else if (key(t) < k) {
+                split(right[t], k);
+                right[t] = splitLeft;
+                pull(t);
+                splitLeft = t;
+            } else {
+                split(left[t], k);
+                left[t] = splitRight;
+                pull(t);
+                splitRight = t;
+            }
+        }
+
+        //This method joins two subtrees where every key in a is below every key in b
+        private int merge(int a, int b) {
+            if (a == NIL)
+                return b;
+            if (b == NIL)
+                return a;
+            if (priority[a] > priority[b]) {
+                right[a] = merge(right[a], b);
+                pull(a);
+                return a;
+            }
+            left[b] = merge(a, left[b]);
+            pull(b);
+            return b;
+        }
+
+        //This method inserts a node
+        void insert(int n) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 7;
+            seed ^= seed << 17;
+            priority[n] = (int) seed;
+            left[n] = right[n] = NIL;
+            maxSize[n] = size[n];
+            split(root, key(n));
+            int below = splitLeft, rest = splitRight;
+            root = merge(merge(below, n), rest);
+            count++;
+        }
+
+        //This method removes a node
+        void remove(int n) {
+            long k = key(n);
+            split(root, k);
+            int below = splitLeft;
+            split(splitRight, k + 1);
+            root = merge(below, splitRight);
+            count--;
+        }
+
+        //This method returns the node with the largest key below the given address (address-ordered treap only)
+        int below(long address) {
+            int found = NIL;
+            for (int t = root; t != NIL; ) {
+                if (start[t] < address) {
+                    found = t;
+                    t = right[t];
+                } else {
+                    t = left[t];
+                }
+            }
+            return found;
+        }
+
+        //This method returns the node with the smallest key above the given address (address-ordered treap only)
+        int above(long address) {
+            int found = NIL;
+            for (int t = root; t != NIL; ) {
+                if (start[t] > address) {
+                    found = t;
+                    t = left[t];
+                } else {
+                    t = right[t];
+                }
+            }
+            return found;
+        }
+
+        //This method returns the node with the smallest key at or above k
+        int ceiling(long k) {
+            int found = NIL;
+            for (int t = root; t != NIL; ) {
+                if (key(t) >= k) {
+                    found = t;
+                    t = left[t];
+                } else {
+                    t = right[t];
+                }
+            }
+            return found;
+        }
+
+        //This method returns the node with the largest key
+        int last() {
+            int t = root;
+            if (t != NIL) {
+                while (right[t] != NIL) {
+                    t = right[t];
+                }
+            }
+            return t;
+        }
+
+        //This method returns the lowest-addressed hole starting at or after from that can hold the request (address-ordered treap only)
+        int lowestFit(int t, int from, int request) {
+            if (t == NIL || maxSize[t] < request)
+                return NIL;
+            if (start[t] < from)
+                return lowestFit(right[t], from, request);
+            int found = lowestFit(left[t], from, request);
+            if (found != NIL)
+                return found;
+            if (size[t] >= request)
+                return t;
+            return lowestFit(right[t], from, request);
+        }
+
+        //This method writes the subtree's holes in key order into pairs starting at index i and returns the next index
+        int collect(int t, int[] pairs, int i) {
+            if (t == NIL)
+                return i;
+            i = collect(left[t], pairs, i);
+            pairs[i++] = start[t];
+            pairs[i++] = size[t];
+            return collect(right[t], pairs, i);
+        }
+    }
+}
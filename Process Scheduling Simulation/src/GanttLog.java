@@ -0,0 +1,79 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class stores a Gantt chart as parallel int columns instead of one object per segment
+//A segment is stored as the PID that ran (or IDLE or SWITCH) plus its start and finish times; labels are only built when printing
+class GanttLog implements GanttSink {
+    //This constant marks a segment in which the CPU was idle
+    static final int IDLE = -1;
+    //This constant marks a segment in which the CPU was switching between processes (context switch and cache warm-up)
+    static final int SWITCH = -2;
+
+    private int[] label, start, finish; //These columns store the label code, start time and finish time of each segment
+    private int size; //This variable stores the number of segments
+
+    //This constructor creates an empty log with room for the given number of segments
+    GanttLog(int capacity) {
+        capacity = Math.max(1, capacity);
+        label = new int[capacity];
+        start = new int[capacity];
+        finish = new int[capacity];
+    }
+
+    //This method appends a segment, growing the columns when they are full
+    @Override
+    public void add(int label, int start, int finish) {
+        if (size == this.label.length) {
+            int capacity = size * 2;
+            this.label = Arrays.copyOf(this.label, capacity);
+            this.start = Arrays.copyOf(this.start, capacity);
+            this.finish = Arrays.copyOf(this.finish, capacity);
+        }
+        this.label[size] = label;
+        this.start[size] = start;
+        this.finish[size] = finish;
+        size++;
+    }
+
+    //This method removes every segment without releasing the columns
+    void clear() {
+        size = 0;
+    }
+
+    //This method returns the number of segments
+    int size() {
+        return size;
+    }
+
+    //This method returns true if there are no segments
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    //This method returns the label code of the given segment (a PID, IDLE or SWITCH)
+    int labelCode(int i) {
+        return label[i];
+    }
+
+    //This method returns the start time of the given segment
+    int start(int i) {
+        return start[i];
+    }
+
+    //This method returns the finish time of the given segment
+    int finish(int i) {
+        return finish[i];
+    }
+
+    //This method builds the printable label of the given segment (e.g., "P1" or "Idle")
+    String label(int i) {
+        return labelFor(label[i]);
+    }
+
+    //This method builds the printable label for a label code
+    static String labelFor(int code) {
+        if (code == IDLE)
+            return "Idle";
+        return code == SWITCH ? "CS" : "P" + code;
+    }
+}
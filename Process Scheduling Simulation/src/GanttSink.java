@@ -0,0 +1,6 @@
+//This interface receives Gantt chart segments in time order as a scheduler produces them
+//GanttLog keeps every segment; StreamingGanttRenderer and GanttSummary render them in constant memory
+interface GanttSink {
+    //This method records that the given label (a PID, GanttLog.IDLE or GanttLog.SWITCH) ran from start to finish
+    void add(int label, int start, int finish);
+}
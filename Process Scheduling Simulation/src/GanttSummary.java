@@ -0,0 +1,155 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+//This class downsamples a Gantt chart to at most a fixed number of blocks, for a summary view of a long schedule
+//Time is split into equal buckets; when the schedule outgrows them, the bucket width doubles and neighbouring buckets are folded together
+//Each bucket keeps its idle, switch and busy time, and a Boyer-Moore majority vote over the processes that ran in it,
+//so memory is constant and the schedule length does not need to be known in advance
+//A block shows Idle, CS or a process only when it held more than half of the bucket; a busy bucket with no such process shows
+//Busy, and a bucket that nothing holds the majority of shows Mixed
+class GanttSummary implements GanttSink {
+    private static final String NEWLINE = System.lineSeparator();
+    //This constant marks a bucket that no process has run in
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final int[] label; //This array stores the process that leads the vote of each bucket
+    private final long[] weight; //This array stores the vote weight of each bucket, a lower bound on the leading process's time
+    private final long[] idle; //This array stores the idle time of each bucket
+    private final long[] switching; //This array stores the context-switch time of each bucket
+    private final long[] busy; //This array stores the time processes ran in each bucket
+    private long bucketWidth = 1; //This variable stores the number of time units each bucket covers
+    private long finish; //This variable stores the finish time of the last segment
+
+    //This constructor creates a summary of at most the given number of blocks
+    GanttSummary(int maxBlocks) {
+        if (maxBlocks < 2) {
+            throw new IllegalArgumentException("A summary needs at least 2 blocks: " + maxBlocks);
+        }
+        label = new int[maxBlocks];
+        weight = new long[maxBlocks];
+        idle = new long[maxBlocks];
+        switching = new long[maxBlocks];
+        busy = new long[maxBlocks];
+        Arrays.fill(label, NONE);
+    }
+
+    @Override
+    public void add(int code, int start, int end) {
+        long from = start;
+        while (from < end) {
+            //Widen the buckets until this time falls inside them
+            while (from >= bucketWidth * label.length) {
+                fold();
+            }
+            int bucket = (int) (from / bucketWidth);
+            long to = Math.min(end, (bucket + 1) * bucketWidth);
+            record(bucket, code, to - from);
+            from = to;
+        }
+        finish = Math.max(finish, end);
+    }
+
+    //This method adds time for a label to a bucket
+    private void record(int bucket, int code, long time) {
+        if (code == GanttLog.IDLE) {
+            idle[bucket] += time;
+        } else if (code == GanttLog.SWITCH) {
+            switching[bucket] += time;
+        } else {
+            busy[bucket] += time;
+            vote(bucket, code, time);
+        }
+    }
+
+    //This method adds time for a process to a bucket's majority vote
+    private void vote(int bucket, int code, long time) {
+        if (label[bucket] == code) {
+            weight[bucket] += time;
+        } else if (time > weight[bucket]) {
+            label[bucket] = code;
+            weight[bucket] = time - weight[bucket];
+        } else {
+            weight[bucket] -= time;
+        }
+    }
+
+    //This method doubles the bucket width by merging each pair of neighbouring buckets
+    private void fold() {
+        int half = (label.length + 1) / 2;
+        for (int i = 0; i < half; i++) {
+            int left = 2 * i, right = 2 * i + 1;
+            label[i] = label[left];
+            weight[i] = weight[left];
+            idle[i] = idle[left];
+            switching[i] = switching[left];
+            busy[i] = busy[left];
+            if (right < label.length) {
+                idle[i] += idle[right];
+                switching[i] += switching[right];
+                busy[i] += busy[right];
+                if (label[right] != NONE) {
+                    vote(i, label[right], weight[right]);
+                }
+            }
+        }
+        for (int i = half; i < label.length; i++) {
+            label[i] = NONE;
+            weight[i] = 0;
+            idle[i] = 0;
+            switching[i] = 0;
+            busy[i] = 0;
+        }
+        bucketWidth *= 2;
+    }
+
+    //This method returns the text of one block: the label that held more than half of the bucket, Busy, Mixed or - when empty
+    private String blockText(int i) {
+        long total = idle[i] + switching[i] + busy[i];
+        if (total == 0) {
+            return "-";
+        }
+        //Every unit of the vote weight is time the leading process ran, so a weight above half proves it holds the majority
+        if (2 * weight[i] > total) {
+            return GanttLog.labelFor(label[i]);
+        }
+        if (2 * idle[i] > total) {
+            return GanttLog.labelFor(GanttLog.IDLE);
+        }
+        if (2 * switching[i] > total) {
+            return GanttLog.labelFor(GanttLog.SWITCH);
+        }
+        return 2 * busy[i] > total ? "Busy" : "Mixed";
+    }
+
+    //This method writes the summary chart: one block per bucket with its label and start time
+    void render(Writer out) throws IOException {
+        int used = (int) Math.min(label.length, (finish + bucketWidth - 1) / bucketWidth);
+        if (used == 0) {
+            out.write(NEWLINE + "No Gantt chart to display." + NEWLINE);
+            out.flush();
+            return;
+        }
+        out.write(NEWLINE + "Gantt Chart (summary, " + bucketWidth + " time units per block):" + NEWLINE);
+        for (int i = 0; i < used; i++) {
+            out.write('|');
+            pad(out, blockText(i));
+        }
+        out.write(NEWLINE);
+        for (int i = 0; i < used; i++) {
+            out.write('|');
+            pad(out, Long.toString(i * bucketWidth));
+        }
+        out.write("Finish:" + finish + NEWLINE);
+        out.flush();
+    }
+
+    //This method writes text left-justified in one block
+    private static void pad(Writer out, String text) throws IOException {
+        out.write(text);
+        for (int i = text.length(); i < TextResultSink.BLOCK_WIDTH; i++) {
+            out.write(' ');
+        }
+    }
+}
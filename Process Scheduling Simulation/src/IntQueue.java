@@ -0,0 +1,92 @@
+//This class represents a FIFO queue of int values stored in a growable ring buffer
+//It is used as the ready queue for process row indices so queueing does not box or allocate
+class IntQueue implements ReadyQueue {
+    private int[] ring; //This array stores the queued values
+    private int head; //This variable stores the position of the first value
+    private int size; //This variable stores the number of queued values
+
+    //This constructor creates an empty queue with room for the given number of values
+    IntQueue(int capacity) {
+        ring = new int[Math.max(1, capacity)];
+    }
+
+    //This method returns true if the queue has no values
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    //This method returns the number of queued values
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //This method removes every value from the queue
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    //This method adds a row at the back of the queue (the ReadyQueue view of addLast)
+    @Override
+    public void add(int row) {
+        addLast(row);
+    }
+
+    //This method removes the row at the front of the queue (the ReadyQueue view of pollFirst)
+    @Override
+    public int poll() {
+        return pollFirst();
+    }
+
+    //This method adds a value at the back of the queue in O(1)
+    void addLast(int value) {
+        if (size == ring.length) {
+            grow();
+        }
+        int tail = head + size;
+        if (tail >= ring.length) {
+            tail -= ring.length;
+        }
+        ring[tail] = value;
+        size++;
+    }
+
+    //This method adds a value at the front of the queue in O(1)
+    void addFirst(int value) {
+        if (size == ring.length) {
+            grow();
+        }
+        head = head == 0 ? ring.length - 1 : head - 1;
+        ring[head] = value;
+        size++;
+    }
+
+    //This method returns the value at the front of the queue without removing it
+    int peekFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return ring[head];
+    }
+
+    //This method removes and returns the value at the front of the queue in O(1)
+    int pollFirst() {
+        int value = peekFirst();
+        head = head + 1 == ring.length ? 0 : head + 1;
+        size--;
+        return value;
+    }
+
+    //This method doubles the ring, unrolling it so the first value is at position 0
+    private void grow() {
+        int[] bigger = new int[ring.length * 2];
+        int firstPart = Math.min(size, ring.length - head);
+        System.arraycopy(ring, head, bigger, 0, firstPart);
+        System.arraycopy(ring, 0, bigger, firstPart, size - firstPart);
+        ring = bigger;
+        head = 0;
+    }
+}
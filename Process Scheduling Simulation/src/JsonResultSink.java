@@ -0,0 +1,75 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.io.Writer;
+
+//This class renders ScheduleResults as a JSON array with one object per run
+//Each object holds the aggregate statistics and percentiles, the per-process metrics and, if it was recorded, the Gantt chart
+class JsonResultSink implements ResultSink {
+    private final Writer out; //This variable stores the writer every result is rendered to
+    private int written; //This variable counts the results written so far
+
+    //This constructor creates a sink that writes to the given (ideally buffered) writer
+    JsonResultSink(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(ScheduleResult result) throws IOException {
+        out.write(written++ == 0 ? "[\n" : ",\n");
+        out.write("{\"algorithm\":\"" + result.algorithm + "\",\"timeQuantum\":" + result.timeQuantum
+                + ",\"count\":" + result.count + ",\"makespan\":" + result.makespan
+                + ",\"avgWaiting\":" + result.avgWaiting + ",\"avgTurnaround\":" + result.avgTurnaround
+                + ",\"avgResponse\":" + result.avgResponse + ",\"maxWaiting\":" + result.maxWaiting
+                + ",\"contextSwitches\":" + result.contextSwitches + ",\"overheadTime\":" + result.overheadTime
+                + ",\"utilization\":" + result.utilization() + ",\"throughput\":" + result.throughput()
+                + ",\"fairness\":" + result.stats.fairness() + ",\"wallMillis\":" + result.wallNanos / 1e6);
+        ScheduleStats stats = result.stats;
+        out.write(",\"percentiles\":{");
+        writePercentiles("waiting", stats.waiting);
+        out.write(',');
+        writePercentiles("turnaround", stats.turnaround);
+        out.write(',');
+        writePercentiles("response", stats.response);
+        out.write(",\"slowdown\":{\"p50\":" + stats.slowdownPercentile(50) + ",\"p90\":" + stats.slowdownPercentile(90)
+                + ",\"p95\":" + stats.slowdownPercentile(95) + ",\"p99\":" + stats.slowdownPercentile(99)
+                + ",\"p999\":" + stats.slowdownPercentile(99.9) + ",\"max\":" + (double) stats.slowdown.max() / ScheduleStats.SLOWDOWN_SCALE + "}}");
+        ProcessTable table = result.table;
+        ProcessTable.RunState run = result.run;
+        out.write(",\"processes\":[");
+        boolean first = true;
+        for (int row : result.reportOrder()) {
+            if (!first)
+                out.write(',');
+            first = false;
+            out.write("{\"pid\":" + table.pid[row] + ",\"arrival\":" + table.arrival[row] + ",\"burst\":" + table.burst[row]
+                    + ",\"priority\":" + table.priority[row] + ",\"cpuInit\":" + run.cpuInit[row]
+                    + ",\"completion\":" + run.completion[row] + ",\"waiting\":" + run.waiting(table, row)
+                    + ",\"turnaround\":" + run.turnaround(table, row) + "}");
+        }
+        out.write(']');
+        if (result.gantt != null) {
+            GanttLog gantt = result.gantt;
+            out.write(",\"gantt\":[");
+            for (int i = 0; i < gantt.size(); i++) {
+                if (i > 0)
+                    out.write(',');
+                out.write("{\"label\":\"" + gantt.label(i) + "\",\"start\":" + gantt.start(i) + ",\"finish\":" + gantt.finish(i) + "}");
+            }
+            out.write(']');
+        }
+        out.write('}');
+    }
+
+    //This method writes the percentiles of one histogram as a named JSON object
+    private void writePercentiles(String name, LatencyHistogram histogram) throws IOException {
+        out.write("\"" + name + "\":{\"p50\":" + histogram.percentile(50) + ",\"p90\":" + histogram.percentile(90)
+                + ",\"p95\":" + histogram.percentile(95) + ",\"p99\":" + histogram.percentile(99)
+                + ",\"p999\":" + histogram.percentile(99.9) + ",\"max\":" + histogram.max() + "}");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.write(written == 0 ? "[]\n" : "\n]\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,111 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class counts non-negative long values in log-linear buckets, in the style of an HDR histogram
+//Values below 2^PRECISION_BITS get a bucket each; above that every power of two is split into 2^PRECISION_BITS equal buckets,
+//so a percentile is reported within 1 / 2^PRECISION_BITS (under 1%) of the true value while the bucket array has a fixed size
+//The count, sum, minimum and maximum are kept exactly, and two histograms merge by adding their buckets
+class LatencyHistogram {
+    private static final int PRECISION_BITS = 7; //This constant sets the relative precision of the buckets
+    private static final int SUB_BUCKETS = 1 << PRECISION_BITS; //This constant is the number of buckets per power of two
+    private static final int BUCKETS = (64 - PRECISION_BITS) * SUB_BUCKETS; //This constant covers every non-negative long
+
+    private final long[] counts = new long[BUCKETS]; //This array stores the number of values in each bucket
+    private long count, sum; //These variables store the number and exact sum of the recorded values
+    private long min = Long.MAX_VALUE, max = Long.MIN_VALUE; //These variables store the exact extremes of the recorded values
+
+    //This method records one value in O(1)
+    void record(long value) {
+        //If the value is negative, it has no bucket
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must not be negative: " + value);
+        }
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    //This method adds every value recorded by the other histogram to this one
+    void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    //This method forgets every recorded value
+    void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    //This method returns the number of recorded values
+    long count() {
+        return count;
+    }
+
+    //This method returns the exact sum of the recorded values
+    long sum() {
+        return sum;
+    }
+
+    //This method returns the exact mean of the recorded values, or 0 if there are none
+    double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    //This method returns the smallest recorded value, or 0 if there are none
+    long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    //This method returns the largest recorded value, or 0 if there are none
+    long max() {
+        return count == 0 ? 0 : max;
+    }
+
+    //This method returns the value at the given percentile (0 to 100): the largest value in the bucket that holds that rank,
+    //capped at the exact maximum, or 0 if nothing was recorded
+    long percentile(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * count)); //This is the 1-based rank of the wanted value
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, Math.max(min, highestInBucket(i)));
+            }
+        }
+        return max;
+    }
+
+    //This method returns the bucket of a value
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value); //This is the power of two at or below the value
+        int shift = exponent - PRECISION_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    //This method returns the largest value that falls into the given bucket
+    private static long highestInBucket(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
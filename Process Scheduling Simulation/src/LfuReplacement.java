@@ -0,0 +1,159 @@
+//This class simulates LFU page replacement over a fixed number of frames
+//Frames are grouped into buckets of equal use count, and the buckets are linked in ascending count order,
+//so a hit moves a frame one bucket up and a fault evicts from the lowest bucket, both in O(1)
+//Within a bucket frames are kept in recency order, so ties between equally used pages evict the least recently used
+//Use counts belong to resident pages only: a page that is evicted and loaded again starts over at one
+class LfuReplacement implements ReplacementPolicy {
+    //This constant marks the end of a list
+    private static final int NIL = -1;
+
+    private final int[] page, prev, next, bucketOf; //These arrays store each frame's page, its links within its bucket and its bucket
+    private final long[] count; //This array stores the use count of each bucket
+    private final int[] first, last, lower, higher; //These arrays store each bucket's most and least recent frames and its neighbouring buckets
+    private final IntQueue freeBuckets; //This queue stores buckets that are not in use
+    private final PageMap resident; //This map stores the frame of every resident page
+    private int lowest = NIL; //This variable points at the bucket with the smallest use count
+    private int used; //This variable stores the number of frames filled so far
+    private long references, faults, evictions; //These variables count what happened during the run
+
+    //This constructor creates an empty memory with the given number of frames
+    LfuReplacement(int numFrames) {
+        resident = new PageMap(numFrames);
+        page = new int[numFrames];
+        prev = new int[numFrames];
+        next = new int[numFrames];
+        bucketOf = new int[numFrames];
+        //There are never more non-empty buckets than frames, plus one being created
+        int buckets = numFrames + 1;
+        count = new long[buckets];
+        first = new int[buckets];
+        last = new int[buckets];
+        lower = new int[buckets];
+        higher = new int[buckets];
+        freeBuckets = new IntQueue(buckets);
+        reset();
+    }
+
+    //This method returns the policy name
+    @Override
+    public String name() {
+        return "LFU";
+    }
+
+    //This method references a page and returns true if it was already resident (a hit)
+    @Override
+    public boolean access(int p) {
+        references++;
+        int f = resident.get(p);
+        if (f != PageMap.ABSENT) {
+            int from = bucketOf[f];
+            int to = higher[from];
+            if (to == NIL || count[to] != count[from] + 1) { //If there is no bucket for the next count, create it above this one
+                to = newBucket(count[from] + 1, from, to);
+            }
+            unlink(f);
+            pushFront(f, to);
+            if (first[from] == NIL) {
+                dropBucket(from);
+            }
+            return true;
+        }
+        faults++;
+        if (used < page.length) { //If there is a free frame, fill it
+            f = used++;
+        } else { //Otherwise evict the least recently used of the least used pages
+            int victimBucket = lowest;
+            f = last[victimBucket];
+            resident.remove(page[f]);
+            unlink(f);
+            if (first[victimBucket] == NIL) {
+                dropBucket(victimBucket);
+            }
+            evictions++;
+        }
+        int to = lowest;
+        if (to == NIL || count[to] != 1) {
+            to = newBucket(1, NIL, to);
+        }
+        page[f] = p;
+        resident.put(p, f);
+        pushFront(f, to);
+        return false;
+    }
+
+    //This method takes a free bucket for the given count and links it between two neighbouring buckets
+    private int newBucket(long uses, int below, int above) {
+        int b = freeBuckets.pollFirst();
+        count[b] = uses;
+        first[b] = last[b] = NIL;
+        lower[b] = below;
+        higher[b] = above;
+        if (below == NIL) lowest = b; else higher[below] = b;
+        if (above != NIL) lower[above] = b;
+        return b;
+    }
+
+    //This method unlinks an empty bucket and returns it to the free queue
+    private void dropBucket(int b) {
+        if (lower[b] == NIL) lowest = higher[b]; else higher[lower[b]] = higher[b];
+        if (higher[b] != NIL) lower[higher[b]] = lower[b];
+        freeBuckets.addLast(b);
+    }
+
+    //This method removes a frame from its bucket
+    private void unlink(int f) {
+        int b = bucketOf[f];
+        if (prev[f] == NIL) first[b] = next[f]; else next[prev[f]] = next[f];
+        if (next[f] == NIL) last[b] = prev[f]; else prev[next[f]] = prev[f];
+    }
+
+    //This method puts a frame at the most recent end of a bucket
+    private void pushFront(int f, int b) {
+        bucketOf[f] = b;
+        prev[f] = NIL;
+        next[f] = first[b];
+        if (first[b] == NIL) last[b] = f; else prev[first[b]] = f;
+        first[b] = f;
+    }
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    @Override
+    public long run(int[] pageReferences, int from, int to) {
+        long before = faults;
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+        return faults - before;
+    }
+
+    //This method empties every frame and zeroes the counters
+    @Override
+    public void reset() {
+        resident.clear();
+        freeBuckets.clear();
+        for (int b = 0; b < count.length; b++) {
+            freeBuckets.addLast(b);
+        }
+        lowest = NIL;
+        used = 0;
+        references = faults = evictions = 0;
+    }
+
+    //This method returns the number of pages referenced so far
+    @Override
+    public long references() {
+        return references;
+    }
+
+    //This method returns the number of references that found their page missing
+    @Override
+    public long faults() {
+        return faults;
+    }
+
+    //This method returns the number of resident pages that were replaced
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+}
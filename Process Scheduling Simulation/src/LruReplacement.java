@@ -0,0 +1,108 @@
+//This class simulates true LRU page replacement over a fixed number of frames
+//The frames are linked into an intrusive doubly linked recency list (prev/next int columns, most recent at the head),
+//and a PageMap finds a page's frame, so a hit moves one frame to the head and a fault reuses the tail frame, both in O(1)
+//Nothing is allocated per reference, so very long reference strings can be replayed against many frames
+class LruReplacement implements ReplacementPolicy {
+    //This constant marks the end of the recency list
+    private static final int NIL = -1;
+
+    private final int[] page; //This array stores the page held in each frame
+    private final int[] prev, next; //These arrays link the frames from most to least recently used
+    private final PageMap resident; //This map stores the frame of every resident page
+    private int head = NIL, tail = NIL; //These variables point at the most and least recently used frames
+    private int used; //This variable stores the number of frames filled so far
+    private long references, faults, evictions; //These variables count what happened during the run
+
+    //This constructor creates an empty memory with the given number of frames
+    LruReplacement(int numFrames) {
+        resident = new PageMap(numFrames);
+        page = new int[numFrames];
+        prev = new int[numFrames];
+        next = new int[numFrames];
+    }
+
+    //This method returns the policy name
+    @Override
+    public String name() {
+        return "LRU";
+    }
+
+    //This method references a page and returns true if it was already resident (a hit)
+    @Override
+    public boolean access(int p) {
+        references++;
+        int f = resident.get(p);
+        if (f != PageMap.ABSENT) {
+            if (f != head) { //Move the frame to the head of the recency list
+                unlink(f);
+                pushFront(f);
+            }
+            return true;
+        }
+        faults++;
+        if (used < page.length) { //If there is a free frame, fill it
+            f = used++;
+        } else { //Otherwise evict the least recently used page, which sits at the tail
+            f = tail;
+            resident.remove(page[f]);
+            unlink(f);
+            evictions++;
+        }
+        page[f] = p;
+        resident.put(p, f);
+        pushFront(f);
+        return false;
+    }
+
+    //This method removes a frame from the recency list
+    private void unlink(int f) {
+        int before = prev[f], after = next[f];
+        if (before == NIL) head = after; else next[before] = after;
+        if (after == NIL) tail = before; else prev[after] = before;
+    }
+
+    //This method puts a frame at the head of the recency list
+    private void pushFront(int f) {
+        prev[f] = NIL;
+        next[f] = head;
+        if (head == NIL) tail = f; else prev[head] = f;
+        head = f;
+    }
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    @Override
+    public long run(int[] pageReferences, int from, int to) {
+        long before = faults;
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+        return faults - before;
+    }
+
+    //This method empties every frame and zeroes the counters
+    @Override
+    public void reset() {
+        resident.clear();
+        head = tail = NIL;
+        used = 0;
+        references = faults = evictions = 0;
+    }
+
+    //This method returns the number of pages referenced so far
+    @Override
+    public long references() {
+        return references;
+    }
+
+    //This method returns the number of references that found their page missing
+    @Override
+    public long faults() {
+        return faults;
+    }
+
+    //This method returns the number of resident pages that were replaced
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+}
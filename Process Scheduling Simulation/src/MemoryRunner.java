@@ -0,0 +1,162 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//This class replays the process list against memory allocators and compares how they cope
+//Each process allocates its memory requirement when it arrives and frees it when its burst has elapsed,
+//so allocations and frees interleave the way a long-lived system's would
+final class MemoryRunner {
+    //This constant is the memory size used when --memory-size is not given
+    static final int DEFAULT_MEMORY_SIZE = 4096;
+    //These constants are the buddy minimum block and slab size used when --min-block and --slab-size are not given
+    static final int DEFAULT_MIN_BLOCK = 16, DEFAULT_SLAB_SIZE = 4096;
+    //This constant is the number of most common memory requirements given their own slab class
+    static final int COMMON_SIZES = 8;
+    //These constants are the allocator names accepted by --allocators
+    static final String FIRST = "first", BEST = "best", WORST = "worst", NEXT = "next", BUDDY = "buddy", SLAB = "slab";
+
+    private MemoryRunner() {
+    }
+
+    //This class holds the outcome of replaying the process list against one allocator
+    static final class Outcome {
+        final String name; //This variable stores the allocator name
+        final long requests, failures; //These variables count the allocation requests and the failed ones
+        final double avgExternalFragmentation; //This variable stores the external fragmentation averaged over every request
+        final double avgInternalFragmentation; //This variable stores the internal fragmentation averaged over every request
+        final long smallestLargestFree; //This variable stores the smallest "largest free block" seen at any request
+        final long peakAllocated; //This variable stores the most memory allocated at once, including rounding, as the co-simulation counts it
+        final long events; //This variable counts the allocate and free calls made
+        final long allocatorNanos; //This variable stores the time spent inside those calls, without the metrics read between them
+
+        Outcome(String name, long requests, long failures, double avgExternalFragmentation, double avgInternalFragmentation,
+                long smallestLargestFree, long peakAllocated, long events, long allocatorNanos) {
+            this.name = name;
+            this.requests = requests;
+            this.failures = failures;
+            this.avgExternalFragmentation = avgExternalFragmentation;
+            this.avgInternalFragmentation = avgInternalFragmentation;
+            this.smallestLargestFree = smallestLargestFree;
+            this.peakAllocated = peakAllocated;
+            this.events = events;
+            this.allocatorNanos = allocatorNanos;
+        }
+
+        //This method returns the fraction of requests that failed
+        double failureRate() {
+            return requests == 0 ? 0 : (double) failures / requests;
+        }
+
+        //This method returns the number of allocate and free calls completed per second of allocator time
+        double eventsPerSecond() {
+            return allocatorNanos == 0 ? 0 : events * 1e9 / allocatorNanos;
+        }
+
+        //This method returns the number of allocation requests served per second of allocator time (the frees between them included)
+        double allocationsPerSecond() {
+            return allocatorNanos == 0 ? 0 : requests * 1e9 / allocatorNanos;
+        }
+    }
+
+    //This method creates the named allocator over the given amount of memory
+    //The slab allocator's classes are the most common memory requirements in the table plus power-of-two sizes
+    static Allocator create(String allocator, int memorySize, ProcessTable table, int minBlock, int slabSize) {
+        switch (allocator) {
+            case FIRST:
+                return new FreeListAllocator(FreeListAllocator.Fit.FIRST, memorySize);
+            case BEST:
+                return new FreeListAllocator(FreeListAllocator.Fit.BEST, memorySize);
+            case WORST:
+                return new FreeListAllocator(FreeListAllocator.Fit.WORST, memorySize);
+            case NEXT:
+                return new FreeListAllocator(FreeListAllocator.Fit.NEXT, memorySize);
+            case BUDDY:
+                return new BuddyAllocator(memorySize, minBlock);
+            case SLAB:
+                slabSize = Math.min(slabSize, memorySize);
+                return new SlabAllocator(memorySize, slabSize, SlabAllocator.sizeClasses(table.memory, table.size, slabSize, COMMON_SIZES));
+            default:
+                throw new IllegalArgumentException("Unknown allocator: " + allocator + " (expected first, best, worst, next, buddy or slab)");
+        }
+    }
+
+    //This method allocates for every process in arrival order, first freeing the memory of processes whose burst has elapsed
+    //Only the allocate and free calls are timed; the fragmentation figures read before each request are not
+    static Outcome replay(ProcessTable table, Allocator allocator) {
+        int[] byArrival = table.byArrival();
+        int[] address = new int[table.size]; //This array stores the address each row was given
+        //Rows holding memory, ordered by the time they release it
+        ReadyHeap holding = new ReadyHeap(table.size, (a, b) -> {
+            long releaseA = (long) table.arrival[a] + table.burst[a], releaseB = (long) table.arrival[b] + table.burst[b];
+            return releaseA != releaseB ? Long.compare(releaseA, releaseB) : Integer.compare(a, b);
+        });
+        double fragmentationSum = 0, internalSum = 0;
+        long smallestLargestFree = Long.MAX_VALUE, peak = 0, events = 0, allocatorNanos = 0;
+        for (int row : byArrival) {
+            if (table.memory[row] <= 0) { //A process that needs no memory makes no request
+                continue;
+            }
+            int time = table.arrival[row];
+            while (!holding.isEmpty() && (long) table.arrival[holding.peek()] + table.burst[holding.peek()] <= time) {
+                int done = holding.poll();
+                long startNanos = System.nanoTime();
+                allocator.free(address[done]);
+                allocatorNanos += System.nanoTime() - startNanos;
+                events++;
+            }
+            fragmentationSum += allocator.externalFragmentation();
+            internalSum += allocator.internalFragmentation();
+            smallestLargestFree = Math.min(smallestLargestFree, allocator.largestFree());
+            long startNanos = System.nanoTime();
+            address[row] = allocator.allocate(table.memory[row]);
+            allocatorNanos += System.nanoTime() - startNanos;
+            events++;
+            if (address[row] != Allocator.FAILED) {
+                holding.add(row);
+                peak = Math.max(peak, allocator.allocatedBytes()); //Buddy and slab round requests up, so count what they hand out
+            }
+        }
+        long requests = allocator.requests();
+        return new Outcome(allocator.name(), requests, allocator.failures(), requests == 0 ? 0 : fragmentationSum / requests,
+                requests == 0 ? 0 : internalSum / requests, requests == 0 ? allocator.largestFree() : smallestLargestFree, peak, events, allocatorNanos);
+    }
+
+    //This method prints the comparison report
+    static void printReport(List<Outcome> outcomes, int memorySize) {
+        System.out.println("\n--- Memory Allocator Comparison (" + memorySize + " units) ---");
+        System.out.printf("%-12s %-10s %-10s %-10s %-12s %-12s %-12s %-10s %-12s %-12s\n", "Allocator", "Requests", "Failures",
+                "Fail Rate", "Avg Ext Frag", "Avg Int Frag", "Min Largest", "Peak Used", "Allocs/s", "Events/s");
+        for (Outcome o : outcomes) {
+            System.out.printf(Locale.ROOT, "%-12s %-10d %-10d %-10.4f %-12.4f %-12.4f %-12d %-10d %-12.0f %-12.0f\n", o.name, o.requests,
+                    o.failures, o.failureRate(), o.avgExternalFragmentation, o.avgInternalFragmentation, o.smallestLargestFree,
+                    o.peakAllocated, o.allocationsPerSecond(), o.eventsPerSecond());
+        }
+    }
+
+    //This method runs memory mode from the command line options and prints the report
+    //Options: --allocators first,best,worst,next,buddy,slab  --memory-size N  --min-block N  --slab-size N
+    static void runFromArgs(ProcessTable table, String[] args) {
+        String allocatorList = OperatingSystemSchedulesProcesses.optionValue(args, "--allocators");
+        String memoryOption = OperatingSystemSchedulesProcesses.optionValue(args, "--memory-size");
+        String minBlockOption = OperatingSystemSchedulesProcesses.optionValue(args, "--min-block");
+        String slabOption = OperatingSystemSchedulesProcesses.optionValue(args, "--slab-size");
+        int minBlock = minBlockOption == null ? DEFAULT_MIN_BLOCK : Integer.parseInt(minBlockOption);
+        int slabSize = slabOption == null ? DEFAULT_SLAB_SIZE : Integer.parseInt(slabOption);
+        int memorySize = memoryOption == null ? DEFAULT_MEMORY_SIZE : Integer.parseInt(memoryOption);
+        if (memorySize <= 0) {
+            throw new IllegalArgumentException("Memory size must be positive: " + memorySize);
+        }
+        List<Allocator> allocators = new ArrayList<>();
+        for (String name : (allocatorList == null ? "first,best,worst,next,buddy,slab" : allocatorList).split(",")) {
+            if (!name.isBlank()) {
+                allocators.add(create(name.trim().toLowerCase(Locale.ROOT), memorySize, table, minBlock, slabSize));
+            }
+        }
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Allocator allocator : allocators) {
+            outcomes.add(replay(table, allocator));
+        }
+        printReport(outcomes, memorySize);
+    }
+}
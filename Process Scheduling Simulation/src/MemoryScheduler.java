@@ -0,0 +1,215 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+//This class schedules processes on one CPU while they compete for memory from an Allocator
+//A process must be given its memory requirement before it enters the ready queue, and gives it back when it completes;
+//until then it waits in a FIFO admission queue, so a process that does not fit also holds back the ones behind it
+//The time a process spends in the admission queue is reported apart from the time it spends in the ready queue
+final class MemoryScheduler {
+    private MemoryScheduler() {
+    }
+
+    //This class holds a schedule together with how memory pressure affected it
+    static final class Outcome {
+        final ScheduleResult schedule; //This variable stores the schedule of the processes that were admitted
+        final String allocator; //This variable stores the allocator name
+        final int[] admitted; //This array stores the time each row was given its memory, or -1 if it never could be
+        final long blocked; //This variable counts the processes that had to wait in the admission queue
+        final long rejected; //This variable counts the processes whose memory requirement could not be met even with all memory free
+        final long peakAllocated; //This variable stores the most memory allocated at once, including rounding
+        final double avgMemoryWait, avgReadyWait; //These variables store the average time spent waiting for memory and for the CPU
+        final int maxMemoryWait; //This variable stores the longest time a process waited for memory
+
+        Outcome(ScheduleResult schedule, String allocator, int[] admitted, long blocked, long rejected, long peakAllocated) {
+            this.schedule = schedule;
+            this.allocator = allocator;
+            this.admitted = admitted;
+            this.blocked = blocked;
+            this.rejected = rejected;
+            this.peakAllocated = peakAllocated;
+            ProcessTable table = schedule.table;
+            ProcessTable.RunState run = schedule.run;
+            long memoryWait = 0;
+            int longest = 0;
+            for (int i = 0; i < run.finished; i++) {
+                int row = run.finishOrder[i];
+                int wait = admitted[row] - table.arrival[row];
+                memoryWait += wait;
+                longest = Math.max(longest, wait);
+            }
+            this.avgMemoryWait = run.finished == 0 ? 0 : (double) memoryWait / run.finished;
+            this.avgReadyWait = schedule.avgWaiting - avgMemoryWait;
+            this.maxMemoryWait = longest;
+        }
+    }
+
+    //This method runs the named algorithm ("fcfs", "sjf", "rr" or "priority") with memory admission through the allocator
+    static Outcome run(ProcessTable table, ProcessTable.RunState run, GanttSink gantt, String algorithm, int timeQuantum, Allocator allocator) {
+        long startNanos = System.nanoTime();
+        ReadyQueue ready;
+        int slice = Integer.MAX_VALUE; //Non-preemptive algorithms run each process to completion
+        String name, title;
+        switch (algorithm) {
+            case BatchRunner.FCFS:
+                ready = new IntQueue(table.size);
+                name = "FCFS";
+                title = "FCFS Scheduling";
+                break;
+            case BatchRunner.SJF:
+                ready = new ReadyHeap(table.size, SchedulingEngine.sjfOrder(table));
+                name = "SJF";
+                title = "SJF Scheduling (Non-Preemptive)";
+                break;
+            case BatchRunner.PRIORITY:
+                ready = new ReadyHeap(table.size, SchedulingEngine.priorityOrder(table));
+                name = "Priority";
+                title = "Priority Scheduling (Non-Preemptive)";
+                break;
+            case BatchRunner.RR:
+                //If the time quantum is not positive, the schedule would never make progress
+                if (timeQuantum <= 0) {
+                    throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+                }
+                ready = new IntQueue(table.size);
+                slice = timeQuantum;
+                name = "RR";
+                title = "Round Robin Scheduling (Time Quantum = " + timeQuantum + ")";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm + " (expected fcfs, sjf, rr or priority)");
+        }
+        run.reset(table);
+        int[] byArrival = table.byArrival();
+        int[] address = new int[table.size]; //This array stores the address of each admitted row's memory
+        int[] admitted = new int[table.size];
+        Arrays.fill(admitted, -1);
+        IntQueue admission = new IntQueue(64); //This queue stores rows that have arrived but have no memory yet
+        long blocked = 0, rejected = 0, peak = 0;
+        int next = 0; //This cursor points at the next row that has not arrived yet
+        int time = 0;
+        int lastRelease = 0; //This variable stores the last time memory was freed
+        while (run.finished + rejected < table.size) {
+            //Queue every row that has arrived for memory, then admit as many as fit
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                admission.addLast(byArrival[next++]);
+            }
+            peak = Math.max(peak, admit(table, lastRelease, admission, ready, allocator, address, admitted));
+            if (ready.isEmpty()) {
+                //Nothing is holding memory, so a row still at the head of the admission queue can never fit
+                if (!admission.isEmpty()) {
+                    admission.pollFirst();
+                    rejected++;
+                    continue;
+                }
+                //Otherwise the CPU is idle until the next arrival
+                if (next == byArrival.length)
+                    break;
+                int nextArrival = table.arrival[byArrival[next]];
+                if (gantt != null)
+                    gantt.add(GanttLog.IDLE, time, nextArrival);
+                time = nextArrival;
+                continue;
+            }
+            int current = ready.poll();
+            int start = run.dispatch(current, time, gantt);
+            int execTime = Math.min(slice, run.remaining[current]);
+            time = start + execTime;
+            run.remaining[current] -= execTime;
+            if (gantt != null)
+                gantt.add(table.pid[current], start, time);
+            //Rows that arrived during this slice are queued ahead of the preempted row; they are admitted against
+            //the memory as it was during the slice, before a finishing row gives its memory back
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                admission.addLast(byArrival[next++]);
+            }
+            peak = Math.max(peak, admit(table, lastRelease, admission, ready, allocator, address, admitted));
+            if (run.remaining[current] == 0) {
+                run.complete(current, time);
+                if (address[current] != Allocator.FAILED) { //A finished row gives its memory back, which may unblock others
+                    allocator.free(address[current]);
+                    lastRelease = time;
+                    peak = Math.max(peak, admit(table, lastRelease, admission, ready, allocator, address, admitted));
+                }
+            }
+            if (run.remaining[current] > 0) {
+                ready.add(current);
+            }
+        }
+        for (int row = 0; row < table.size; row++) {
+            if (admitted[row] > table.arrival[row])
+                blocked++;
+        }
+        ScheduleResult schedule = new ScheduleResult(name, title, slice == Integer.MAX_VALUE ? 0 : slice, table, run, gantt,
+                algorithm.equals(BatchRunner.RR), algorithm.equals(BatchRunner.PRIORITY), System.nanoTime() - startNanos);
+        return new Outcome(schedule, allocator.name(), admitted, blocked, rejected, peak);
+    }
+
+    //This method admits rows from the head of the admission queue for as long as their memory can be allocated
+    //and returns the memory allocated afterwards
+    //Memory only becomes free when a process completes, so a row that fits now already fitted at its arrival
+    //or at the last release, whichever is later, and that is recorded as its admission time
+    private static long admit(ProcessTable table, int lastRelease, IntQueue admission, ReadyQueue ready, Allocator allocator,
+                              int[] address, int[] admitted) {
+        while (!admission.isEmpty()) {
+            int row = admission.peekFirst();
+            //A row that needs no memory is admitted without touching the allocator
+            int at = table.memory[row] > 0 ? allocator.allocate(table.memory[row]) : Allocator.FAILED;
+            if (at == Allocator.FAILED && table.memory[row] > 0)
+                break;
+            admission.pollFirst();
+            address[row] = at;
+            admitted[row] = Math.max(table.arrival[row], lastRelease);
+            ready.add(row);
+        }
+        return allocator.allocatedBytes();
+    }
+
+    //This method prints the comparison report
+    static void printReport(ProcessTable table, List<Outcome> outcomes, long memorySize) {
+        System.out.println("\n--- CPU + Memory Co-Simulation (" + table.size + " processes, " + memorySize + " units) ---");
+        System.out.printf("%-16s %-10s %-12s %-10s %-12s %-12s %-14s %-12s %-12s %-10s %-10s %-10s\n", "Algorithm", "Allocator", "Avg Waiting",
+                "Wait p99", "Avg Mem Wait", "Avg CPU Wait", "Avg Turnaround", "Throughput", "Overhead %", "Blocked", "Rejected", "Peak Mem");
+        for (Outcome o : outcomes) {
+            ScheduleResult r = o.schedule;
+            System.out.printf(Locale.ROOT, "%-16s %-10s %-12.2f %-10d %-12.2f %-12.2f %-14.2f %-12.4f %-12.2f %-10d %-10d %-10d\n", r.label(),
+                    o.allocator, r.avgWaiting, r.stats.waiting.percentile(99), o.avgMemoryWait, o.avgReadyWait, r.avgTurnaround, r.throughput(), 100 * r.overheadShare(), o.blocked, o.rejected,
+                    o.peakAllocated);
+        }
+    }
+
+    //This method runs co-simulation mode from the command line options and prints the report
+    //Options: --algorithms fcfs,sjf,rr,priority  --allocator first|best|worst|next|buddy|slab  --memory-size N  --min-block N  --slab-size N
+    //--switch-cost N  --warmup N
+    static void runFromArgs(ProcessTable table, String[] args, int timeQuantum) {
+        String algorithmList = OperatingSystemSchedulesProcesses.optionValue(args, "--algorithms");
+        String allocatorName = OperatingSystemSchedulesProcesses.optionValue(args, "--allocator");
+        String memoryOption = OperatingSystemSchedulesProcesses.optionValue(args, "--memory-size");
+        String minBlockOption = OperatingSystemSchedulesProcesses.optionValue(args, "--min-block");
+        String slabOption = OperatingSystemSchedulesProcesses.optionValue(args, "--slab-size");
+        String allocator = allocatorName == null ? MemoryRunner.FIRST : allocatorName.trim().toLowerCase(Locale.ROOT);
+        int memorySize = memoryOption == null ? MemoryRunner.DEFAULT_MEMORY_SIZE : Integer.parseInt(memoryOption);
+        int minBlock = minBlockOption == null ? MemoryRunner.DEFAULT_MIN_BLOCK : Integer.parseInt(minBlockOption);
+        int slabSize = slabOption == null ? MemoryRunner.DEFAULT_SLAB_SIZE : Integer.parseInt(slabOption);
+        if (memorySize <= 0) {
+            throw new IllegalArgumentException("Memory size must be positive: " + memorySize);
+        }
+        List<String> algorithms = new ArrayList<>();
+        for (String name : (algorithmList == null ? "fcfs,sjf,rr,priority" : algorithmList).split(",")) {
+            if (!name.isBlank()) {
+                algorithms.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        DispatchCost cost = DispatchCost.fromArgs(args);
+        List<Outcome> outcomes = new ArrayList<>();
+        long capacity = 0;
+        for (String algorithm : algorithms) {
+            Allocator memory = MemoryRunner.create(allocator, memorySize, table, minBlock, slabSize); //Every run starts with empty memory
+            capacity = memory.capacity();
+            outcomes.add(run(table, table.newRun(cost), null, algorithm, timeQuantum, memory));
+        }
+        printReport(table, outcomes, capacity);
+    }
+}
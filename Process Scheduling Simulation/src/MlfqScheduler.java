@@ -0,0 +1,179 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class runs a Multilevel Feedback Queue against a ProcessTable
+//Every level is a Round Robin queue with its own quantum; new processes start at the top level, a process that uses up
+//its level's quantum moves one level down, and a process waiting at a higher level preempts one running at a lower level
+//A periodic boost moves every process back to the top level so long jobs cannot starve
+//The levels are intrusive linked lists over the rows, so a boost splices them together in O(levels) rather than O(processes):
+//each row remembers the boost epoch it was last placed in, and a row from an older epoch is treated as a fresh top-level row
+final class MlfqScheduler {
+    private static final int MAX_LEVELS = 64; //This constant bounds the levels so the non-empty levels fit in one long
+
+    private MlfqScheduler() {
+    }
+
+    //This method simulates MLFQ with one level per quantum (top level first) and the given boost period (0 turns boosting off)
+    static ScheduleResult mlfq(ProcessTable table, ProcessTable.RunState run, GanttSink gantt, int[] quanta, int boostPeriod) {
+        //If the levels are missing or too many, there is no valid feedback queue
+        if (quanta.length == 0 || quanta.length > MAX_LEVELS) {
+            throw new IllegalArgumentException("MLFQ needs between 1 and " + MAX_LEVELS + " levels: " + quanta.length);
+        }
+        for (int quantum : quanta) {
+            //If a time quantum is not positive, the schedule would never make progress
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be positive: " + quantum);
+            }
+        }
+        //If the boost period is negative, it cannot be scheduled
+        if (boostPeriod < 0) {
+            throw new IllegalArgumentException("Boost period must not be negative: " + boostPeriod);
+        }
+        long startNanos = System.nanoTime();
+        run.reset(table);
+        int levels = quanta.length;
+        int[] byArrival = table.byArrival();
+        int[] next = new int[table.size]; //This column links each queued row to the row behind it, or -1 at the tail
+        int[] level = new int[table.size]; //This column stores the level of each row
+        int[] used = new int[table.size]; //This column stores the time each row has run at its current level
+        int[] epoch = new int[table.size]; //This column stores the boost epoch in which each row's level was set
+        int[] head = new int[levels], tail = new int[levels]; //These arrays store the first and last row queued at each level
+        Arrays.fill(head, -1);
+        Arrays.fill(tail, -1);
+        long nonEmpty = 0; //This bit mask has bit L set while level L has a queued row
+        int boosts = 0; //This variable counts the boosts so far
+        long nextBoost = boostPeriod > 0 ? boostPeriod : Long.MAX_VALUE; //This variable stores the time of the next boost
+        int arrivalCursor = 0; //This cursor points at the next row that has not arrived yet
+        int time = 0;
+        int running = -1; //This variable stores the row holding the CPU, or -1 when it is idle
+        int sliceStart = 0; //This variable stores when the running row was dispatched
+        boolean switching = false; //This variable is true while the CPU is being switched to the running row, which has not started yet
+        while (run.finished < table.size) {
+            //If no row is running or queued, the CPU is idle until the next arrival
+            if (running == -1 && nonEmpty == 0 && time < table.arrival[byArrival[arrivalCursor]]) {
+                int nextArrival = table.arrival[byArrival[arrivalCursor]];
+                if (gantt != null)
+                    gantt.add(GanttLog.IDLE, time, nextArrival);
+                time = nextArrival;
+            }
+            //Boosts that fell while the CPU was idle only matter once; queued rows are all at the top level afterwards anyway
+            if (time >= nextBoost) {
+                boosts++;
+                for (int l = 1; l < levels; l++) {
+                    //Splice the whole level onto the end of the top level
+                    if (head[l] == -1)
+                        continue;
+                    if (head[0] == -1) {
+                        head[0] = head[l];
+                    } else {
+                        next[tail[0]] = head[l];
+                    }
+                    tail[0] = tail[l];
+                    head[l] = -1;
+                    tail[l] = -1;
+                }
+                nonEmpty = nonEmpty != 0 ? 1 : 0;
+                if (running != -1) {
+                    level[running] = 0;
+                    used[running] = 0;
+                    epoch[running] = boosts;
+                }
+                nextBoost = (time / boostPeriod + 1) * (long) boostPeriod;
+            }
+            //Admit every row that has arrived by the current time at the tail of the top level
+            while (arrivalCursor < byArrival.length && table.arrival[byArrival[arrivalCursor]] <= time) {
+                int row = byArrival[arrivalCursor++];
+                level[row] = 0;
+                used[row] = 0;
+                epoch[row] = boosts;
+                next[row] = -1;
+                if (head[0] == -1) {
+                    head[0] = row;
+                } else {
+                    next[tail[0]] = row;
+                }
+                tail[0] = row;
+                nonEmpty |= 1;
+            }
+            if (running != -1) {
+                int l = level[running];
+                if (used[running] == quanta[l]) {
+                    //The running row used up its quantum: it moves one level down (or stays at the bottom) behind the rows already there
+                    if (gantt != null)
+                        gantt.add(table.pid[running], sliceStart, time);
+                    l = Math.min(l + 1, levels - 1);
+                    level[running] = l;
+                    used[running] = 0;
+                    next[running] = -1;
+                    if (head[l] == -1) {
+                        head[l] = running;
+                    } else {
+                        next[tail[l]] = running;
+                    }
+                    tail[l] = running;
+                    nonEmpty |= 1L << l;
+                    running = -1;
+                } else if (nonEmpty != 0 && Long.numberOfTrailingZeros(nonEmpty) < l) {
+                    //A row is waiting at a higher level: the running row goes back to the head of its level and keeps the time it used
+                    //A row overtaken while the CPU was still being switched to it never ran, so it has no slice to log
+                    if (gantt != null && !switching)
+                        gantt.add(table.pid[running], sliceStart, time);
+                    next[running] = head[l];
+                    head[l] = running;
+                    if (tail[l] == -1) {
+                        tail[l] = running;
+                    }
+                    nonEmpty |= 1L << l;
+                    running = -1;
+                }
+            }
+            //If the CPU is free, dispatch the head of the highest non-empty level
+            if (running == -1) {
+                int l = Long.numberOfTrailingZeros(nonEmpty);
+                running = head[l];
+                head[l] = next[running];
+                if (head[l] == -1) {
+                    tail[l] = -1;
+                    nonEmpty &= ~(1L << l);
+                }
+                //A row placed before the last boost has been boosted to the top level with a fresh quantum
+                if (epoch[running] != boosts) {
+                    level[running] = 0;
+                    used[running] = 0;
+                    epoch[running] = boosts;
+                }
+                time = switching ? run.redirectDispatch(running, time, gantt) : run.beginDispatch(running, time, gantt);
+                switching = true;
+                continue; //Arrivals and boosts during the switch are handled first and may overtake the row being switched to
+            }
+            if (switching) {
+                run.start(running, time);
+                sliceStart = time;
+                switching = false;
+            }
+            //Run until the next event: the row finishes or uses up its quantum, a row arrives, or the levels are boosted
+            int l = level[running];
+            long until = (long) time + Math.min(run.remaining[running], quanta[l] - used[running]);
+            if (arrivalCursor < byArrival.length) {
+                until = Math.min(until, table.arrival[byArrival[arrivalCursor]]);
+            }
+            until = Math.min(until, nextBoost);
+            int elapsed = (int) (until - time);
+            time = (int) until;
+            run.remaining[running] -= elapsed;
+            used[running] += elapsed;
+            if (run.remaining[running] == 0) {
+                if (gantt != null)
+                    gantt.add(table.pid[running], sliceStart, time);
+                run.complete(running, time);
+                running = -1;
+            }
+        }
+        StringBuilder title = new StringBuilder("MLFQ Scheduling (Quanta = ");
+        for (int i = 0; i < levels; i++) {
+            title.append(i == 0 ? "" : ",").append(quanta[i]);
+        }
+        title.append(boostPeriod > 0 ? ", Boost Period = " + boostPeriod + ")" : ", No Boost)");
+        return new ScheduleResult("MLFQ", title.toString(), 0, table, run, gantt, true, false, System.nanoTime() - startNanos);
+    }
+}
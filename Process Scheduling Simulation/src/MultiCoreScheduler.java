@@ -0,0 +1,321 @@
+//Importing the necessary libraries
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntBinaryOperator;
+
+//This class schedules processes on several CPU cores that share one clock
+//Ready processes wait either in one global queue or in per-core queues; per-core queues are kept balanced by periodic migration
+//or by idle cores stealing work, and with affinity each process is pinned to one core and never moves
+//At every event time finished slices are retired, arrivals are placed, preempted processes are re-queued and idle cores dispatch,
+//in that order and in core order, so with one core the schedule is exactly the single-core schedule of SchedulingEngine
+final class MultiCoreScheduler {
+    //This enum lists the ways ready processes are shared between cores
+    enum Balancing { GLOBAL, MIGRATION, STEALING }
+
+    //This constant is the migration period used when --balance-period is not given
+    static final int DEFAULT_BALANCE_PERIOD = 20;
+    //This constant marks an idle core
+    private static final int IDLE = -1;
+
+    private MultiCoreScheduler() {
+    }
+
+    //This class holds a multi-core schedule together with per-core figures
+    static final class Outcome {
+        final ScheduleResult schedule; //This variable stores the per-process results and aggregate statistics
+        final Balancing balancing; //This variable stores how ready processes were shared
+        final boolean affinity; //This variable is true if processes were pinned to cores
+        final long[] busy; //This array stores the time each core spent running processes
+        final long[] dispatches; //This array stores the number of slices each core ran
+        final GanttLog[] gantt; //This array stores each core's Gantt chart, or null if the run was headless
+        final long migrations; //This variable counts the slices that ran on a different core than the process's previous slice
+
+        Outcome(ScheduleResult schedule, Balancing balancing, boolean affinity, long[] busy, long[] dispatches, GanttLog[] gantt, long migrations) {
+            this.schedule = schedule;
+            this.balancing = balancing;
+            this.affinity = affinity;
+            this.busy = busy;
+            this.dispatches = dispatches;
+            this.gantt = gantt;
+            this.migrations = migrations;
+        }
+
+        //This method returns the fraction of the schedule in which the given core was running a process
+        double utilization(int core) {
+            return schedule.makespan == 0 ? 0 : (double) busy[core] / schedule.makespan;
+        }
+
+        //This method returns the fraction of the cores' combined time spent switching between processes
+        double overheadShare() {
+            return schedule.makespan == 0 ? 0 : (double) schedule.overheadTime / ((long) schedule.makespan * busy.length);
+        }
+
+        //This method returns the average utilization over every core
+        double utilization() {
+            long total = 0;
+            for (long b : busy) {
+                total += b;
+            }
+            return schedule.makespan == 0 ? 0 : (double) total / ((long) schedule.makespan * busy.length);
+        }
+    }
+
+    //This method schedules the table on the given number of cores with the named algorithm ("fcfs", "sjf", "rr" or "priority")
+    //The period is only used by MIGRATION; the Gantt charts are recorded if withGantt is true
+    static Outcome run(ProcessTable table, ProcessTable.RunState run, String algorithm, int timeQuantum, int cores,
+                       Balancing balancing, boolean affinity, int period, boolean withGantt) {
+        if (cores <= 0) {
+            throw new IllegalArgumentException("Core count must be positive: " + cores);
+        }
+        if (balancing == Balancing.MIGRATION && period <= 0) {
+            throw new IllegalArgumentException("Balance period must be positive: " + period);
+        }
+        long startNanos = System.nanoTime();
+        IntBinaryOperator order = null; //This comparator orders a heap ready queue; null means FIFO
+        int slice = Integer.MAX_VALUE;
+        String name, title;
+        switch (algorithm) {
+            case BatchRunner.FCFS:
+                name = "FCFS";
+                title = "FCFS Scheduling";
+                break;
+            case BatchRunner.SJF:
+                order = SchedulingEngine.sjfOrder(table);
+                name = "SJF";
+                title = "SJF Scheduling (Non-Preemptive)";
+                break;
+            case BatchRunner.PRIORITY:
+                order = SchedulingEngine.priorityOrder(table);
+                name = "Priority";
+                title = "Priority Scheduling (Non-Preemptive)";
+                break;
+            case BatchRunner.RR:
+                //If the time quantum is not positive, the schedule would never make progress
+                if (timeQuantum <= 0) {
+                    throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+                }
+                slice = timeQuantum;
+                name = "RR";
+                title = "Round Robin Scheduling (Time Quantum = " + timeQuantum + ")";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm + " (expected fcfs, sjf, rr or priority)");
+        }
+        //With affinity every core keeps its own queue and nothing is moved between them
+        boolean shared = balancing == Balancing.GLOBAL && !affinity;
+        ReadyQueue[] queue = new ReadyQueue[shared ? 1 : cores];
+        for (int q = 0; q < queue.length; q++) {
+            queue[q] = order == null ? new IntQueue(64) : new ReadyHeap(64, order);
+        }
+        run.reset(table);
+        int[] byArrival = table.byArrival();
+        int[] lastCore = new int[table.size]; //This array stores the core each row last ran on, or -1
+        Arrays.fill(lastCore, -1);
+        int[] running = new int[cores], sliceEnd = new int[cores], sliceStart = new int[cores], idleSince = new int[cores];
+        int[] lastRan = new int[cores]; //This array stores the row each core ran last, or -1 before its first dispatch
+        Arrays.fill(running, IDLE);
+        Arrays.fill(lastRan, -1);
+        long[] busy = new long[cores], dispatches = new long[cores];
+        GanttLog[] gantt = null;
+        if (withGantt) {
+            gantt = new GanttLog[cores];
+            for (int c = 0; c < cores; c++) {
+                gantt[c] = new GanttLog(16);
+            }
+        }
+        IntQueue preempted = new IntQueue(cores); //This queue stores the rows whose slice ended unfinished at the current time
+        long migrations = 0;
+        long nextBalance = period;
+        int next = 0; //This cursor points at the next row that has not arrived yet
+        int active = 0; //This variable counts the busy cores
+        int time = 0;
+        while (true) {
+            //Retire every slice that ends now, in core order
+            for (int c = 0; c < cores; c++) {
+                int row = running[c];
+                if (row != IDLE && sliceEnd[c] == time) {
+                    run.remaining[row] -= time - sliceStart[c];
+                    busy[c] += time - sliceStart[c];
+                    if (gantt != null)
+                        gantt[c].add(table.pid[row], sliceStart[c], time);
+                    if (run.remaining[row] == 0) {
+                        run.complete(row, time);
+                    } else {
+                        preempted.addLast(row);
+                    }
+                    running[c] = IDLE;
+                    idleSince[c] = time;
+                    active--;
+                }
+            }
+            //Place every row that has arrived by now, ahead of the preempted rows
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                int row = byArrival[next++];
+                queue[shared ? 0 : home(table, row, queue, running, affinity)].add(row);
+            }
+            while (!preempted.isEmpty()) {
+                int row = preempted.pollFirst();
+                queue[shared ? 0 : lastCore[row]].add(row);
+            }
+            //Move work from the longest queue to the shortest once per period
+            if (balancing == Balancing.MIGRATION && !affinity && time >= nextBalance) {
+                balance(queue);
+                nextBalance = time - time % period + period;
+            }
+            //Dispatch every idle core, in core order
+            for (int c = 0; c < cores; c++) {
+                if (running[c] != IDLE)
+                    continue;
+                ReadyQueue source = queue[shared ? 0 : c];
+                if (source.isEmpty() && balancing == Balancing.STEALING && !affinity) {
+                    source = longest(queue);
+                }
+                if (source == null || source.isEmpty())
+                    continue;
+                int row = source.poll();
+                if (gantt != null && idleSince[c] < time)
+                    gantt[c].add(GanttLog.IDLE, idleSince[c], time);
+                if (lastCore[row] != -1 && lastCore[row] != c)
+                    migrations++;
+                lastCore[row] = c;
+                //Switching to a different row costs time on this core, and a migrated or preempted row also warms up
+                int start = run.dispatch(row, lastRan[c], time, gantt == null ? null : gantt[c]);
+                lastRan[c] = row;
+                running[c] = row;
+                sliceStart[c] = start;
+                sliceEnd[c] = start + Math.min(slice, run.remaining[row]);
+                dispatches[c]++;
+                active++;
+            }
+            //Advance to the next slice end or arrival
+            long nextTime = Long.MAX_VALUE;
+            for (int c = 0; c < cores; c++) {
+                if (running[c] != IDLE)
+                    nextTime = Math.min(nextTime, sliceEnd[c]);
+            }
+            if (next < byArrival.length)
+                nextTime = Math.min(nextTime, table.arrival[byArrival[next]]);
+            if (nextTime == Long.MAX_VALUE)
+                break;
+            //An idle core next to queued work waits for the next balancing pass
+            if (balancing == Balancing.MIGRATION && !affinity && active < cores && hasQueued(queue))
+                nextTime = Math.min(nextTime, nextBalance);
+            time = (int) nextTime;
+        }
+        ScheduleResult schedule = new ScheduleResult(name, title, slice == Integer.MAX_VALUE ? 0 : slice, table, run, null,
+                algorithm.equals(BatchRunner.RR), algorithm.equals(BatchRunner.PRIORITY), System.nanoTime() - startNanos);
+        return new Outcome(schedule, balancing, affinity, busy, dispatches, gantt, migrations);
+    }
+
+    //This method returns the core a newly arrived row is queued on: its pinned core with affinity,
+    //otherwise the core with the least work (queued plus running), the lowest-numbered one on ties
+    private static int home(ProcessTable table, int row, ReadyQueue[] queue, int[] running, boolean affinity) {
+        if (affinity) {
+            return Math.floorMod(table.pid[row], queue.length);
+        }
+        int best = 0, bestLoad = Integer.MAX_VALUE;
+        for (int c = 0; c < queue.length; c++) {
+            int load = queue[c].size() + (running[c] == IDLE ? 0 : 1);
+            if (load < bestLoad) {
+                best = c;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    //This method returns the longest queue, or null if every queue is empty
+    private static ReadyQueue longest(ReadyQueue[] queue) {
+        ReadyQueue found = null;
+        for (ReadyQueue q : queue) {
+            if (!q.isEmpty() && (found == null || q.size() > found.size()))
+                found = q;
+        }
+        return found;
+    }
+
+    //This method moves rows from the longest queue to the shortest until their lengths differ by at most one
+    private static void balance(ReadyQueue[] queue) {
+        while (true) {
+            ReadyQueue most = queue[0], least = queue[0];
+            for (ReadyQueue q : queue) {
+                if (q.size() > most.size())
+                    most = q;
+                if (q.size() < least.size())
+                    least = q;
+            }
+            if (most.size() - least.size() <= 1)
+                return;
+            least.add(most.poll());
+        }
+    }
+
+    //This method returns true if any queue holds a row
+    private static boolean hasQueued(ReadyQueue[] queue) {
+        for (ReadyQueue q : queue) {
+            if (!q.isEmpty())
+                return true;
+        }
+        return false;
+    }
+
+    //This method prints the summary of each run and its per-core figures, and each core's Gantt chart if it was recorded
+    static void printReport(ProcessTable table, List<Outcome> outcomes, int cores) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+        out.write("\n--- Multi-Core Scheduling (" + table.size + " processes, " + cores + " cores) ---\n");
+        for (Outcome o : outcomes) {
+            ScheduleResult r = o.schedule;
+            out.write(String.format(Locale.ROOT, "\n%s, %s%s: Avg Waiting %.2f, Avg Turnaround %.2f, Avg Response %.2f, Makespan %d, "
+                            + "Utilization %.4f, Migrations %d, Switches %d, Overhead %.4f, Wait p99 %d, Response p99 %d\n", r.label(),
+                    o.balancing.name().toLowerCase(Locale.ROOT), o.affinity ? " with affinity" : "", r.avgWaiting, r.avgTurnaround, r.avgResponse,
+                    r.makespan, o.utilization(), o.migrations, r.contextSwitches, o.overheadShare(), r.stats.waiting.percentile(99),
+                    r.stats.response.percentile(99)));
+            out.write(String.format("%-6s %-12s %-12s %-12s\n", "Core", "Busy", "Utilization", "Dispatches"));
+            for (int c = 0; c < o.busy.length; c++) {
+                out.write(String.format(Locale.ROOT, "%-6d %-12d %-12.4f %-12d\n", c, o.busy[c], o.utilization(c), o.dispatches[c]));
+            }
+            if (o.gantt != null) {
+                TextResultSink sink = new TextResultSink(out);
+                for (int c = 0; c < o.gantt.length; c++) {
+                    out.write("\nCore " + c + ":");
+                    sink.writeGanttChart(o.gantt[c]);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    //This method runs multi-core mode from the command line options and prints the report
+    //Options: --cores N  --balance global|migration|stealing  --balance-period N  --affinity  --algorithms fcfs,sjf,rr,priority  --gantt
+    //--switch-cost N  --warmup N
+    static void runFromArgs(ProcessTable table, String[] args, int timeQuantum) throws IOException {
+        String coreOption = OperatingSystemSchedulesProcesses.optionValue(args, "--cores");
+        String balanceOption = OperatingSystemSchedulesProcesses.optionValue(args, "--balance");
+        String periodOption = OperatingSystemSchedulesProcesses.optionValue(args, "--balance-period");
+        String algorithmList = OperatingSystemSchedulesProcesses.optionValue(args, "--algorithms");
+        int cores = coreOption == null ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(coreOption);
+        int period = periodOption == null ? DEFAULT_BALANCE_PERIOD : Integer.parseInt(periodOption);
+        Balancing balancing;
+        try {
+            balancing = balanceOption == null ? Balancing.GLOBAL : Balancing.valueOf(balanceOption.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown balancing: " + balanceOption + " (expected global, migration or stealing)");
+        }
+        boolean affinity = OperatingSystemSchedulesProcesses.hasFlag(args, "--affinity");
+        boolean withGantt = OperatingSystemSchedulesProcesses.hasFlag(args, "--gantt");
+        DispatchCost cost = DispatchCost.fromArgs(args);
+        List<Outcome> outcomes = new ArrayList<>();
+        for (String name : (algorithmList == null ? "fcfs,sjf,rr,priority" : algorithmList).split(",")) {
+            if (!name.isBlank()) {
+                outcomes.add(run(table, table.newRun(cost), name.trim().toLowerCase(Locale.ROOT), timeQuantum, cores, balancing, affinity, period, withGantt));
+            }
+        }
+        printReport(table, outcomes, cores);
+    }
+}
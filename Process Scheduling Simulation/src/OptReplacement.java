@@ -0,0 +1,147 @@
+//This class simulates Belady's optimal (OPT) page replacement, which evicts the page whose next use is furthest away
+//OPT needs to see the future, so it is built for one reference string: a single backward pass records, for every reference,
+//where the same page is referenced next, and the resident pages sit in a max-heap keyed by that next use
+//Each reference is then O(log frames) with no allocation; the policy must be replayed over its string from the start, in order
+class OptReplacement implements ReplacementPolicy {
+    //This constant is the next use of a page that is never referenced again
+    private static final int NEVER = Integer.MAX_VALUE;
+
+    private final int[] pageReferences; //This array stores the reference string the policy was built for
+    private final int[] nextUse; //This array stores, for each reference, the position of the next reference to the same page
+    private final int[] page, key; //These arrays store the page held in each frame and the position of its next use
+    private final int[] heap, position; //These arrays store the frames as a max-heap on key and each frame's place in it
+    private final PageMap resident; //This map stores the frame of every resident page
+    private int cursor; //This variable stores the position of the next reference to replay
+    private int used; //This variable stores the number of frames filled so far
+    private long references, faults, evictions; //These variables count what happened during the run
+
+    //This constructor prepares the policy for a reference string and the given number of frames
+    OptReplacement(int numFrames, int[] pageReferences) {
+        this.pageReferences = pageReferences;
+        nextUse = new int[pageReferences.length];
+        PageMap seen = new PageMap(Math.max(16, numFrames)); //This map stores the next position of every page seen so far
+        for (int i = pageReferences.length - 1; i >= 0; i--) {
+            int later = seen.get(pageReferences[i]);
+            nextUse[i] = later == PageMap.ABSENT ? NEVER : later;
+            seen.put(pageReferences[i], i);
+        }
+        resident = new PageMap(numFrames);
+        page = new int[numFrames];
+        key = new int[numFrames];
+        heap = new int[numFrames];
+        position = new int[numFrames];
+    }
+
+    //This method returns the policy name
+    @Override
+    public String name() {
+        return "OPT";
+    }
+
+    //This method references the next page of the reference string and returns true if it was already resident (a hit)
+    @Override
+    public boolean access(int p) {
+        //OPT's decisions depend on the future of its own string, so references must be replayed in order
+        if (cursor == pageReferences.length || pageReferences[cursor] != p) {
+            throw new IllegalStateException("OPT must replay its reference string in order: expected "
+                    + (cursor == pageReferences.length ? "no more references" : "page " + pageReferences[cursor])
+                    + " at position " + cursor + " but got page " + p);
+        }
+        int upcoming = nextUse[cursor++];
+        references++;
+        int f = resident.get(p);
+        if (f != PageMap.ABSENT) {
+            key[f] = upcoming; //The next use only moves later, so the frame can only rise in the max-heap
+            siftUp(position[f]);
+            return true;
+        }
+        faults++;
+        if (used < page.length) { //If there is a free frame, fill it
+            f = used++;
+            page[f] = p;
+            key[f] = upcoming;
+            heap[f] = f;
+            position[f] = f;
+            siftUp(f);
+        } else { //Otherwise evict the page at the top of the heap, whose next use is furthest away
+            f = heap[0];
+            resident.remove(page[f]);
+            evictions++;
+            page[f] = p;
+            key[f] = upcoming;
+            siftDown(0);
+        }
+        resident.put(p, f);
+        return false;
+    }
+
+    //This method moves the frame at heap index i up until its parent's next use is at least as far away
+    private void siftUp(int i) {
+        int f = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (key[heap[parent]] >= key[f])
+                break;
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = f;
+        position[f] = i;
+    }
+
+    //This method moves the frame at heap index i down until both children's next uses are no further away
+    private void siftDown(int i) {
+        int f = heap[i];
+        int half = used >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < used && key[heap[child + 1]] > key[heap[child]])
+                child++;
+            if (key[f] >= key[heap[child]])
+                break;
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = f;
+        position[f] = i;
+    }
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    @Override
+    public long run(int[] pageReferences, int from, int to) {
+        long before = faults;
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+        return faults - before;
+    }
+
+    //This method empties every frame, rewinds to the start of the reference string and zeroes the counters
+    @Override
+    public void reset() {
+        resident.clear();
+        cursor = 0;
+        used = 0;
+        references = faults = evictions = 0;
+    }
+
+    //This method returns the number of pages referenced so far
+    @Override
+    public long references() {
+        return references;
+    }
+
+    //This method returns the number of references that found their page missing
+    @Override
+    public long faults() {
+        return faults;
+    }
+
+    //This method returns the number of resident pages that were replaced
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,115 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class maps resident page numbers to the frame that holds them, using open addressing over two int arrays
+//Lookups, inserts and removals are O(1) on average and never allocate once the table is sized for the frame count
+//(it only grows if more pages are mapped than it was created for)
+//Removal shifts later entries of the probe run back instead of leaving tombstones, so the table never degrades over a long run
+class PageMap {
+    //This constant marks an empty slot in the frame column
+    static final int ABSENT = -1;
+
+    private int[] pages; //This array stores the page number held in each slot
+    private int[] frames; //This array stores the frame of each slot, or ABSENT if the slot is empty
+    private int mask; //This variable stores the table size minus one (the size is a power of two)
+    private int size; //This variable stores the number of mapped pages
+
+    //This constructor creates a map with room for the given number of pages, kept at most half full
+    PageMap(int maxPages) {
+        if (maxPages <= 0) {
+            throw new IllegalArgumentException("Page count must be positive: " + maxPages);
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, maxPages) * 2 - 1) << 1;
+        pages = new int[capacity];
+        frames = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(frames, ABSENT);
+    }
+
+    //This method spreads the bits of a page number so sequential pages do not cluster
+    private int slot(int page) {
+        int h = page * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    //This method returns the frame holding the page, or ABSENT if the page is not resident
+    int get(int page) {
+        for (int i = slot(page); ; i = (i + 1) & mask) {
+            if (frames[i] == ABSENT)
+                return ABSENT;
+            if (pages[i] == page)
+                return frames[i];
+        }
+    }
+
+    //This method maps a page to a frame, replacing any previous mapping
+    void put(int page, int frame) {
+        int i = slot(page);
+        while (frames[i] != ABSENT && pages[i] != page) {
+            i = (i + 1) & mask;
+        }
+        pages[i] = page;
+        if (frames[i] == ABSENT) {
+            frames[i] = frame;
+            //Keep the table at most half full so probe runs stay short
+            if (++size * 2 > pages.length) {
+                grow();
+            }
+            return;
+        }
+        frames[i] = frame;
+    }
+
+    //This method doubles the table and re-inserts every mapping
+    private void grow() {
+        int[] oldPages = pages, oldFrames = frames;
+        pages = new int[oldPages.length * 2];
+        frames = new int[oldPages.length * 2];
+        mask = pages.length - 1;
+        Arrays.fill(frames, ABSENT);
+        for (int i = 0; i < oldPages.length; i++) {
+            if (oldFrames[i] != ABSENT) {
+                int j = slot(oldPages[i]);
+                while (frames[j] != ABSENT) {
+                    j = (j + 1) & mask;
+                }
+                pages[j] = oldPages[i];
+                frames[j] = oldFrames[i];
+            }
+        }
+    }
+
+    //This method removes the mapping of a page, if any
+    void remove(int page) {
+        int i = slot(page);
+        while (frames[i] != ABSENT && pages[i] != page) {
+            i = (i + 1) & mask;
+        }
+        if (frames[i] == ABSENT) {
+            return;
+        }
+        size--;
+        //Shift back every later entry of the probe run whose home slot does not lie between the hole and itself
+        int hole = i;
+        for (int j = (hole + 1) & mask; frames[j] != ABSENT; j = (j + 1) & mask) {
+            int home = slot(pages[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                pages[hole] = pages[j];
+                frames[hole] = frames[j];
+                hole = j;
+            }
+        }
+        frames[hole] = ABSENT;
+    }
+
+    //This method returns the number of mapped pages
+    int size() {
+        return size;
+    }
+
+    //This method removes every mapping without releasing the arrays
+    void clear() {
+        Arrays.fill(frames, ABSENT);
+        size = 0;
+    }
+}
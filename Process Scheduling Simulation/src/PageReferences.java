@@ -0,0 +1,59 @@
+//Importing the necessary libraries
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+//This class reads a page reference string: page numbers separated by whitespace or commas, on any number of lines
+//The bytes are parsed directly into a growable int array, so no String or Integer is created per reference
+final class PageReferences {
+    private PageReferences() {
+    }
+
+    //This method reads every page number in the file
+    static int[] load(Path file) throws IOException {
+        int[] pages = new int[1 << 16];
+        int count = 0;
+        long line = 1;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            long value = 0;
+            int digits = 0;
+            boolean negative = false;
+            for (int b = in.read(); ; b = in.read()) {
+                if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    if (++digits > 10 || value > (negative ? 1L << 31 : Integer.MAX_VALUE)) {
+                        throw new TraceFormatException(file.toString(), line, "page number out of range");
+                    }
+                    continue;
+                }
+                if (b == '-' && digits == 0 && !negative) {
+                    negative = true;
+                    continue;
+                }
+                //Any other byte ends the current number
+                if (digits > 0) {
+                    if (count == pages.length) {
+                        pages = Arrays.copyOf(pages, count * 2);
+                    }
+                    pages[count++] = (int) (negative ? -value : value);
+                } else if (negative) {
+                    throw new TraceFormatException(file.toString(), line, "'-' without a page number");
+                }
+                value = 0;
+                digits = 0;
+                negative = false;
+                if (b == -1) {
+                    break;
+                } else if (b == '\n') {
+                    line++;
+                } else if (b != ' ' && b != ',' && b != '\t' && b != '\r') {
+                    throw new TraceFormatException(file.toString(), line, "unexpected character '" + (char) b + "'");
+                }
+            }
+        }
+        return Arrays.copyOf(pages, count);
+    }
+}
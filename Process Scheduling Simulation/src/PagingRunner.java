@@ -0,0 +1,117 @@
+//Importing the necessary libraries
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//This class replays one page reference string through several replacement policies and prints a comparison
+//Every policy sees the same string and frame count, so faults, hit ratios and evictions can be compared directly
+final class PagingRunner {
+    //These constants are the policy names accepted by --policies
+    static final String FIFO = "fifo", LRU = "lru", OPT = "opt", CLOCK = "clock", LFU = "lfu", ARC = "arc";
+
+    private PagingRunner() {
+    }
+
+    //This method creates the named policy for the given frame count and reference string
+    static ReplacementPolicy create(String policy, int numFrames, int[] pageReferences) {
+        switch (policy) {
+            case FIFO:
+                return new FifoReplacement(numFrames);
+            case LRU:
+                return new LruReplacement(numFrames);
+            case OPT:
+                return new OptReplacement(numFrames, pageReferences);
+            case CLOCK:
+                return new ClockReplacement(numFrames);
+            case LFU:
+                return new LfuReplacement(numFrames);
+            case ARC:
+                return new ArcReplacement(numFrames);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + policy + " (expected fifo, lru, opt, clock, lfu or arc)");
+        }
+    }
+
+    //This method replays the reference string through each policy and prints one row per policy
+    static void compare(int[] pageReferences, int numFrames, List<String> policies) {
+        System.out.println("\n--- Page Replacement Comparison (" + pageReferences.length + " references, " + numFrames + " frames) ---");
+        System.out.printf("%-8s %-14s %-12s %-14s %-10s\n", "Policy", "Faults", "Hit Ratio", "Evictions", "Wall ms");
+        for (String name : policies) {
+            long startNanos = System.nanoTime();
+            ReplacementPolicy policy = create(name, numFrames, pageReferences);
+            policy.run(pageReferences, 0, pageReferences.length);
+            long elapsed = System.nanoTime() - startNanos; //OPT's timing includes its next-use pass
+            System.out.printf(Locale.ROOT, "%-8s %-14d %-12.4f %-14d %-10.3f\n", policy.name(), policy.faults(),
+                    policy.hitRatio(), policy.evictions(), elapsed / 1e6);
+        }
+    }
+
+    //This method prints the LRU fault count and miss ratio for every frame count from 1 to maxFrames, from one pass over the string
+    static void printMissRatioCurve(int[] pageReferences, int maxFrames) {
+        long startNanos = System.nanoTime();
+        StackDistanceAnalyzer analyzer = new StackDistanceAnalyzer();
+        analyzer.run(pageReferences, 0, pageReferences.length);
+        if (maxFrames <= 0) { //With no limit, the curve ends where every distinct page fits
+            maxFrames = Math.max(1, analyzer.distinctPages());
+        }
+        long[] faults = analyzer.faultCurve(maxFrames);
+        long elapsed = System.nanoTime() - startNanos;
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+        out.print("\n--- LRU Miss-Ratio Curve (" + pageReferences.length + " references, " + analyzer.distinctPages() + " distinct pages) ---\n");
+        out.printf("%-10s %-14s %-12s\n", "Frames", "Faults", "Miss Ratio");
+        for (int frames = 1; frames <= maxFrames; frames++) {
+            double ratio = pageReferences.length == 0 ? 0 : (double) faults[frames] / pageReferences.length;
+            out.printf(Locale.ROOT, "%-10d %-14d %-12.6f\n", frames, faults[frames], ratio);
+        }
+        out.printf(Locale.ROOT, "Wall-clock time: %.3f ms\n", elapsed / 1e6);
+        out.flush();
+    }
+
+    //This method returns the next count references of a generator as a reference string
+    static int[] generate(ReferenceGenerator references, int count) {
+        //If the count is negative, there is no string to replay
+        if (count < 0) {
+            throw new IllegalArgumentException("Reference count must not be negative: " + count);
+        }
+        int[] pageReferences = new int[count];
+        references.fill(pageReferences, 0, count);
+        return pageReferences;
+    }
+
+    //This method runs paging mode from the command line options
+    //Options: --refs FILE  --frames N  --policies fifo,lru,opt,clock,lfu,arc  --curve
+    //Without --refs, "--references N" replays a generated string instead (see ReferenceGenerator.fromArgs for its options)
+    //With --curve the LRU miss-ratio curve is printed for 1 to N frames (every useful frame count if --frames is absent) instead of the comparison
+    static void runFromArgs(String[] args) throws IOException {
+        String refsFile = OperatingSystemSchedulesProcesses.optionValue(args, "--refs");
+        String frames = OperatingSystemSchedulesProcesses.optionValue(args, "--frames");
+        String policyList = OperatingSystemSchedulesProcesses.optionValue(args, "--policies");
+        String generated = OperatingSystemSchedulesProcesses.optionValue(args, "--references");
+        int[] pageReferences = refsFile != null ? PageReferences.load(Paths.get(refsFile))
+                : generated != null ? generate(ReferenceGenerator.fromArgs(args), Integer.parseInt(generated.trim()))
+                : OperatingSystemSchedulesProcesses.DEFAULT_PAGE_REFERENCES;
+        if (frames != null && Integer.parseInt(frames) <= 0) {
+            throw new IllegalArgumentException("Frame count must be positive: " + frames);
+        }
+        if (OperatingSystemSchedulesProcesses.hasFlag(args, "--curve")) {
+            printMissRatioCurve(pageReferences, frames == null ? 0 : Integer.parseInt(frames));
+            return;
+        }
+        int numFrames = frames == null ? OperatingSystemSchedulesProcesses.DEFAULT_FRAMES : Integer.parseInt(frames);
+        List<String> policies = new ArrayList<>();
+        for (String name : (policyList == null ? "fifo,lru,opt,clock,lfu,arc" : policyList).split(",")) {
+            if (!name.isBlank()) {
+                policies.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        for (String name : policies) {
+            create(name, 1, new int[0]); //Reject an unknown policy before any policy runs
+        }
+        compare(pageReferences, numFrames, policies);
+    }
+}
@@ -0,0 +1,160 @@
+//This class runs the preemptive scheduling algorithms against a ProcessTable: Shortest Remaining Time First and preemptive Priority
+//The running row stays at the top of a ReadyHeap keyed by a long per row; at every event (an arrival, a completion or an aging
+//crossover) its key is refreshed with a decrease-key and the top of the heap is the row that runs next
+//so a schedule costs O(log n) per event instead of a scan of the ready rows per time unit
+final class PreemptiveScheduler {
+    private final ProcessTable table; //This variable stores the table being scheduled
+    private final ProcessTable.RunState run; //This variable stores the per-process results of the run
+    private final long[] key; //This column stores the heap key of each row; the smallest key runs first
+    private final int agingInterval; //This variable stores the time a row must wait to gain one priority level, or 0 without aging
+    private final boolean byRemaining; //This variable is true for SRTF and false for preemptive Priority
+    private int running = -1; //This variable stores the row holding the CPU, or -1 when it is idle
+    private int time; //This variable stores the simulation time, which the aging comparison reads
+
+    //This constructor prepares a run of one algorithm
+    private PreemptiveScheduler(ProcessTable table, ProcessTable.RunState run, boolean byRemaining, int agingInterval) {
+        this.table = table;
+        this.run = run;
+        this.key = new long[table.size];
+        this.byRemaining = byRemaining;
+        this.agingInterval = agingInterval;
+    }
+
+    //This method simulates Shortest Remaining Time First, where an arrival with less work left than the running process preempts it
+    //Ties keep the running process, then go to the earliest arrival, the lowest PID and the lowest row
+    static ScheduleResult srtf(ProcessTable table, ProcessTable.RunState run, GanttSink gantt) {
+        long startNanos = System.nanoTime();
+        new PreemptiveScheduler(table, run, true, 0).schedule(gantt);
+        return new ScheduleResult("SRTF", "SRTF Scheduling (Preemptive SJF)", 0, table, run, gantt, true, false, System.nanoTime() - startNanos);
+    }
+
+    //This method simulates preemptive Priority scheduling, where the highest priority value runs and a higher-priority arrival preempts it
+    //With a positive aging interval a process gains one priority level for each interval it spends waiting, so low priorities cannot starve
+    static ScheduleResult priority(ProcessTable table, ProcessTable.RunState run, GanttSink gantt, int agingInterval) {
+        //If the aging interval is negative, waiting would lower a process's priority
+        if (agingInterval < 0) {
+            throw new IllegalArgumentException("Aging interval must not be negative: " + agingInterval);
+        }
+        long startNanos = System.nanoTime();
+        new PreemptiveScheduler(table, run, false, agingInterval).schedule(gantt);
+        String title = agingInterval > 0 ? "Priority Scheduling (Preemptive, Aging Interval = " + agingInterval + ")" : "Priority Scheduling (Preemptive)";
+        return new ScheduleResult("PPriority", title, 0, table, run, gantt, true, true, System.nanoTime() - startNanos);
+    }
+
+    //This method returns the key of a row when it arrives
+    //With aging a row's level is priority + floor(waited / interval), where waited is the time it has spent ready but not running
+    //At time now that is floor((now - key) / interval) for key = arrival + time run so far - priority * interval, so a smaller key
+    //never has a lower level and waiting rows keep their order in the heap as time passes; only the running row's key grows, by the time it runs
+    //Waiting rows on the same level are therefore ordered by key, which puts first the row closest to gaining its next level
+    private long arrivalKey(int row) {
+        if (byRemaining) {
+            return table.burst[row];
+        }
+        if (agingInterval == 0) {
+            return -(long) table.priority[row];
+        }
+        return table.arrival[row] - (long) table.priority[row] * agingInterval;
+    }
+
+    //This method returns the level a row has reached with aging at the current time
+    private long level(int row) {
+        return Math.floorDiv(time - key[row], agingInterval);
+    }
+
+    //This method orders two rows by key, keeping the running row on ties, then by arrival time, PID and row
+    //With aging the running row is compared by level instead, so a waiting row overtakes it only by reaching a higher level
+    private int compare(int a, int b) {
+        if (agingInterval > 0 && !byRemaining && (a == running || b == running)) {
+            long levelA = level(a), levelB = level(b);
+            if (levelA != levelB)
+                return Long.compare(levelB, levelA);
+            return a == running ? -1 : 1;
+        }
+        if (key[a] != key[b])
+            return Long.compare(key[a], key[b]);
+        if (a == running || b == running)
+            return a == running ? -1 : 1;
+        if (table.arrival[a] != table.arrival[b])
+            return Integer.compare(table.arrival[a], table.arrival[b]);
+        if (table.pid[a] != table.pid[b])
+            return Integer.compare(table.pid[a], table.pid[b]);
+        return Integer.compare(a, b);
+    }
+
+    //This method runs the event loop until every row has finished
+    private void schedule(GanttSink gantt) {
+        run.reset(table);
+        int[] byArrival = table.byArrival();
+        ReadyHeap ready = new ReadyHeap(table.size, this::compare);
+        int next = 0; //This cursor points at the next row that has not arrived yet
+        time = 0; //Initialize simulation time
+        int sliceStart = 0; //This variable stores when the running row was last dispatched
+        boolean switching = false; //This variable is true while the CPU is being switched to the running row, which has not started yet
+        while (run.finished < table.size) {
+            //If no row is ready, the CPU is idle until the next arrival
+            if (ready.isEmpty()) {
+                int nextArrival = table.arrival[byArrival[next]];
+                if (time < nextArrival) {
+                    if (gantt != null)
+                        gantt.add(GanttLog.IDLE, time, nextArrival);
+                    time = nextArrival;
+                }
+            }
+            //Admit every row that has arrived by the current time
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                int row = byArrival[next++];
+                key[row] = arrivalKey(row);
+                ready.add(row);
+            }
+            //A row being switched to is still waiting, so a row that reached a higher level during the switch may pass it
+            if (switching && agingInterval > 0 && !byRemaining) {
+                ready.update(running);
+            }
+            //If the top of the heap is not the running row, the running row is preempted and stays in the heap with its current key
+            int top = ready.peek();
+            if (top != running) {
+                int preempted = running;
+                running = top;
+                if (preempted != -1) {
+                    //A row overtaken while the CPU was still being switched to it never ran, so it has no slice to log
+                    if (gantt != null && !switching)
+                        gantt.add(table.pid[preempted], sliceStart, time);
+                    ready.update(preempted); //The preempted row no longer wins ties, so it may have to move down
+                }
+                time = switching ? run.redirectDispatch(running, time, gantt) : run.beginDispatch(running, time, gantt);
+                switching = true;
+                continue; //Rows that arrive during the switch are admitted first and may overtake the row being switched to
+            }
+            if (switching) {
+                run.start(running, time);
+                sliceStart = time;
+                switching = false;
+            }
+            //Run until the next event: the running row finishes, a row arrives or a waiting row ages past the running one
+            long until = (long) time + run.remaining[running];
+            if (next < byArrival.length) {
+                until = Math.min(until, table.arrival[byArrival[next]]);
+            }
+            if (agingInterval > 0 && !byRemaining && ready.size() > 1) {
+                //The running row keeps its level while it runs, and the runner-up overtakes when it reaches the level above
+                until = Math.min(until, key[ready.peekSecond()] + (level(running) + 1) * agingInterval);
+            }
+            int elapsed = (int) (until - time);
+            run.remaining[running] -= elapsed;
+            time = (int) until;
+            if (run.remaining[running] == 0) {
+                ready.poll(); //The running row is at the top of the heap
+                if (gantt != null)
+                    gantt.add(table.pid[running], sliceStart, time);
+                run.complete(running, time);
+                running = -1;
+            } else if (byRemaining) {
+                key[running] = run.remaining[running]; //Less work left can only move the row up (decrease-key)
+                ready.update(running);
+            } else if (agingInterval > 0) {
+                key[running] += elapsed; //The running row does not age, so it falls behind the rows that do
+                ready.update(running);
+            }
+        }
+    }
+}
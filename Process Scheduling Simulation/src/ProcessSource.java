@@ -0,0 +1,23 @@
+//Importing the necessary libraries
+import java.io.Closeable;
+import java.io.IOException;
+
+//This interface represents a stream of process records read one at a time
+//A source reuses the same fields for every record, so reading a record does not allocate
+//Call next() to advance; the accessors then describe the current record until next() is called again
+interface ProcessSource extends Closeable {
+    //This method advances to the next record and returns false once the source is exhausted
+    boolean next() throws IOException;
+
+    //These methods return the fields of the current record
+    int pid();
+    int arrival();
+    int burst();
+    int priority();
+    int memory();
+
+    //This method releases any resources held by the source
+    @Override
+    default void close() throws IOException {
+    }
+}
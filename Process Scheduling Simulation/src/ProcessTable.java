@@ -0,0 +1,245 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+//This class stores a set of processes as parallel int columns (struct-of-arrays)
+//Row i of every column describes the same process, so a scheduler refers to a process by its row index
+//The table itself is never modified by a scheduler; per-run values live in a RunState created from the table
+class ProcessTable {
+    //These columns store the process ID, arrival time, burst time, priority and memory requirement of each row
+    int[] pid, arrival, burst, priority, memory;
+    int size; //This variable stores the number of rows in use
+    private int[] byArrival; //This array caches the row indices sorted by arrival time
+
+    //This constructor creates an empty table with room for the given number of rows
+    ProcessTable(int capacity) {
+        capacity = Math.max(1, capacity);
+        pid = new int[capacity];
+        arrival = new int[capacity];
+        burst = new int[capacity];
+        priority = new int[capacity];
+        memory = new int[capacity];
+        size = 0;
+    }
+
+    //This method builds a table from a list of Process objects, keeping the list order
+    static ProcessTable from(List<OperatingSystemSchedulesProcesses.Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (OperatingSystemSchedulesProcesses.Process p : processes) {
+            table.add(p.pid, p.arrival, p.burst, p.priority, p.memoryRequirement);
+        }
+        return table;
+    }
+
+    //This method reads every record of a source into a new table, keeping the source order
+    static ProcessTable from(ProcessSource source) throws IOException {
+        ProcessTable table = new ProcessTable(1024);
+        while (source.next()) {
+            table.add(source.pid(), source.arrival(), source.burst(), source.priority(), source.memory());
+        }
+        return table;
+    }
+
+    //This method returns a copy of the table with its rows sorted by arrival time, keeping the table order for equal arrivals
+    ProcessTable sortedByArrival() {
+        int[] order = byArrival();
+        ProcessTable sorted = new ProcessTable(size);
+        for (int row : order) {
+            sorted.add(pid[row], arrival[row], burst[row], priority[row], memory[row]);
+        }
+        return sorted;
+    }
+
+    //This method appends a row and returns its index, growing the columns when they are full
+    int add(int pid, int arrival, int burst, int priority, int memory) {
+        if (size == this.pid.length) {
+            int capacity = size * 2;
+            this.pid = Arrays.copyOf(this.pid, capacity);
+            this.arrival = Arrays.copyOf(this.arrival, capacity);
+            this.burst = Arrays.copyOf(this.burst, capacity);
+            this.priority = Arrays.copyOf(this.priority, capacity);
+            this.memory = Arrays.copyOf(this.memory, capacity);
+        }
+        this.pid[size] = pid;
+        this.arrival[size] = arrival;
+        this.burst[size] = burst;
+        this.priority[size] = priority;
+        this.memory[size] = memory;
+        byArrival = null; //Adding a row invalidates the cached arrival order
+        return size++;
+    }
+
+    //This method returns true if the table has no rows
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    //This method returns the row indices sorted by arrival time, keeping the table order for equal arrivals
+    //The result is computed once and cached, so callers must not modify it
+    int[] byArrival() {
+        if (byArrival == null) {
+            byArrival = sortedBy(arrival);
+        }
+        return byArrival;
+    }
+
+    //This method sorts the row indices by the given column, keeping the table order for equal values
+    int[] sortedBy(int[] column) {
+        int[] order = new int[size];
+        boolean sorted = true; //Already-sorted traces are common, so check before paying for a sort
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            if (i > 0 && column[i] < column[i - 1]) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return order;
+        }
+        //Pack (value, row) into one long so a primitive sort gives a stable order without boxing
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) column[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    //This method creates the per-run state for one scheduling run over this table, in which dispatching is free
+    RunState newRun() {
+        return new RunState(size, DispatchCost.NONE);
+    }
+
+    //This method creates the per-run state for one scheduling run over this table that charges the given dispatch cost
+    RunState newRun(DispatchCost cost) {
+        return new RunState(size, cost);
+    }
+
+    //This class holds the values a scheduler changes while it runs: remaining time, completion time and CPU initialization time
+    //It also records the order in which rows finished, and can be reset so the same arrays serve many runs
+    static class RunState {
+        final int[] remaining, completion, cpuInit; //These columns store the per-run values of each row
+        final int[] finishOrder; //This array stores the row indices in the order they finished
+        int finished; //This variable stores the number of rows that have finished
+        final DispatchCost cost; //This variable stores the time charged for each context switch
+        final ScheduleStats stats = new ScheduleStats(); //This collector receives each row as it finishes
+        private ProcessTable table; //This variable stores the table of the current run, whose columns finished rows are read from
+        int contextSwitches; //This variable counts the dispatches that replaced one process with a different one
+        long overheadTime; //This variable stores the total time lost to context switches and warm-up
+        private int lastDispatched; //This variable stores the row dispatched most recently, or -1 before the first dispatch
+        private int switchedFrom; //This variable stores the row the CPU ran before the dispatch in progress, or -1 if none
+        private int switchCharged; //This variable stores the time charged so far for the dispatch in progress
+
+        //This constructor allocates the per-run columns for the given number of rows
+        RunState(int size, DispatchCost cost) {
+            this.cost = cost;
+            remaining = new int[size];
+            completion = new int[size];
+            cpuInit = new int[size];
+            finishOrder = new int[size];
+        }
+
+        //This method restores the state before a run: nothing has started and all of each burst remains
+        void reset(ProcessTable table) {
+            this.table = table;
+            stats.clear();
+            System.arraycopy(table.burst, 0, remaining, 0, table.size);
+            Arrays.fill(completion, 0, table.size, 0);
+            Arrays.fill(cpuInit, 0, table.size, -1);
+            finished = 0;
+            contextSwitches = 0;
+            overheadTime = 0;
+            lastDispatched = -1;
+        }
+
+        //This method records that the given row was given the only CPU at the given time, and returns the time it starts running
+        //Resuming the row that ran last is not a context switch; the first dispatch of the run is not one either
+        int dispatch(int row, int time, GanttSink gantt) {
+            int previous = lastDispatched;
+            lastDispatched = row;
+            return dispatch(row, previous, time, gantt);
+        }
+
+        //This method starts handing the only CPU to the given row at the given time and returns the time the switch ends
+        //Unlike dispatch the row has not started yet: a preemptive scheduler admits what arrived during the switch, may hand
+        //the CPU to another row with redirectDispatch, and then calls start for the row that actually runs
+        int beginDispatch(int row, int time, GanttSink gantt) {
+            switchedFrom = lastDispatched;
+            lastDispatched = row;
+            switchCharged = 0;
+            if (switchedFrom != -1 && switchedFrom != row) {
+                contextSwitches++;
+            }
+            return chargeSwitch(row, time, gantt);
+        }
+
+        //This method hands the CPU to a row that overtook the one being switched to, at the time the switch ended
+        //The switch is not repeated and still counts once; only the warm-up the new row needs beyond what was already charged is added
+        int redirectDispatch(int row, int time, GanttSink gantt) {
+            lastDispatched = row;
+            return chargeSwitch(row, time, gantt);
+        }
+
+        //This method records that the row the CPU was switched to starts running at the given time
+        void start(int row, int time) {
+            if (cpuInit[row] == -1) {
+                cpuInit[row] = time;
+            }
+        }
+
+        //This method charges the part of the switch to the given row that was not charged yet and returns the time it ends
+        private int chargeSwitch(int row, int time, GanttSink gantt) {
+            int overhead = switchedFrom == -1 || switchedFrom == row ? 0 : cost.overhead(cpuInit[row] != -1);
+            int extra = Math.max(0, overhead - switchCharged);
+            if (extra > 0) {
+                switchCharged += extra;
+                overheadTime += extra;
+                if (gantt != null)
+                    gantt.add(GanttLog.SWITCH, time, time + extra);
+            }
+            return time + extra;
+        }
+
+        //This method records that the given row was given a CPU at the given time after that CPU last ran the previous row (-1 if none),
+        //and returns the time it starts running: any context-switch and warm-up time is charged first and logged as a SWITCH segment
+        int dispatch(int row, int previous, int time, GanttSink gantt) {
+            int start = time;
+            if (previous != -1 && previous != row) {
+                contextSwitches++;
+                int overhead = cost.overhead(cpuInit[row] != -1); //A row that ran before was preempted or migrated since
+                if (overhead > 0) {
+                    overheadTime += overhead;
+                    start += overhead;
+                    if (gantt != null)
+                        gantt.add(GanttLog.SWITCH, time, start);
+                }
+            }
+            if (cpuInit[row] == -1) {
+                cpuInit[row] = start;
+            }
+            return start;
+        }
+
+        //This method records that the given row finished at the given time and adds it to the statistics
+        void complete(int row, int time) {
+            remaining[row] = 0;
+            completion[row] = time;
+            finishOrder[finished++] = row;
+            stats.record(table.arrival[row], table.burst[row], cpuInit[row], time);
+        }
+
+        //This method returns the turnaround time of the given row
+        int turnaround(ProcessTable table, int row) {
+            return completion[row] - table.arrival[row];
+        }
+
+        //This method returns the waiting time of the given row
+        int waiting(ProcessTable table, int row) {
+            return completion[row] - table.arrival[row] - table.burst[row];
+        }
+    }
+}
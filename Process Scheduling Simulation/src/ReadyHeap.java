@@ -0,0 +1,170 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+//This class represents a ready queue as a binary min-heap of process indices
+//The heap only stores int indices, so the caller decides what an index refers to and how two indices are ordered
+//The heap also tracks where each index sits, so an index whose key changed can be moved in O(log n) with update
+class ReadyHeap implements ReadyQueue {
+    private int[] heap; //This array stores the heap of process indices
+    private int[] position; //This array maps each index to its position in the heap, or -1 if it is not in the heap
+    private int size; //This variable stores the number of indices currently in the heap
+    private final IntBinaryOperator order; //This comparator returns a negative value when the first index should run first
+
+    //This constructor creates an empty heap with the given initial capacity and ordering
+    ReadyHeap(int capacity, IntBinaryOperator order) {
+        this.heap = new int[Math.max(1, capacity)]; //Allocate the backing array once up front
+        this.position = new int[Math.max(1, capacity)];
+        Arrays.fill(position, -1); //No index is in the heap yet
+        this.size = 0; //Start with an empty heap
+        this.order = order; //Assign the ordering used to compare two indices
+    }
+
+    //This method returns true if there are no indices in the heap
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    //This method returns the number of indices in the heap
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //This method removes every index from the heap without releasing the backing array
+    @Override
+    public void clear() {
+        for (int pos = 0; pos < size; pos++) {
+            position[heap[pos]] = -1;
+        }
+        size = 0;
+    }
+
+    //This method adds an index to the heap in O(log n)
+    @Override
+    public void add(int index) {
+        //If the backing array is full, grow it
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        //If the index is beyond the position map, grow the map to cover it
+        if (index >= position.length) {
+            int old = position.length;
+            position = Arrays.copyOf(position, Math.max(index + 1, old * 2));
+            Arrays.fill(position, old, position.length, -1);
+        }
+        heap[size] = index; //Place the new index at the bottom of the heap
+        siftUp(size++); //Move it up until the heap order is restored
+    }
+
+    //This method returns true if the given index is in the heap
+    boolean contains(int index) {
+        return index >= 0 && index < position.length && position[index] != -1;
+    }
+
+    //This method restores the heap order after the key of an index in the heap changed, in O(log n)
+    //A key that now runs earlier moves the index up (decrease-key) and one that runs later moves it down
+    void update(int index) {
+        //If the index is not in the heap, there is nothing to move
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index is not in the ready heap: " + index);
+        }
+        int pos = position[index];
+        siftUp(pos);
+        //If the index did not move up, it may have to move down instead
+        if (heap[pos] == index) {
+            siftDown(pos);
+        }
+    }
+
+    //This method removes an index from anywhere in the heap in O(log n)
+    void remove(int index) {
+        //If the index is not in the heap, there is nothing to remove
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index is not in the ready heap: " + index);
+        }
+        int pos = position[index];
+        position[index] = -1;
+        int last = heap[--size];
+        //If the removed index was not the last one, the last index fills its place and moves up or down from there
+        if (pos < size) {
+            heap[pos] = last;
+            position[last] = pos;
+            update(last);
+        }
+    }
+
+    //This method returns the index at the top of the heap without removing it
+    int peek() {
+        //If the heap is empty, there is nothing to return
+        if (size == 0) {
+            throw new IllegalStateException("Ready heap is empty");
+        }
+        return heap[0];
+    }
+
+    //This method returns the index that would reach the top if the top were removed, or -1 if the heap holds fewer than two indices
+    int peekSecond() {
+        if (size < 2) {
+            return -1;
+        }
+        //By the heap order, the runner-up is one of the two children of the root
+        if (size > 2 && order.applyAsInt(heap[2], heap[1]) < 0) {
+            return heap[2];
+        }
+        return heap[1];
+    }
+
+    //This method removes and returns the index at the top of the heap in O(log n)
+    @Override
+    public int poll() {
+        int top = peek(); //Remember the index at the top of the heap
+        position[top] = -1;
+        heap[0] = heap[--size]; //Move the last index to the top
+        //If the heap is not empty, move the new top down until the heap order is restored
+        if (size > 0) {
+            siftDown(0);
+        }
+        return top;
+    }
+
+    //This method moves the index at the given position up towards the root
+    private void siftUp(int pos) {
+        int index = heap[pos]; //Remember the index being moved
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1; //Compute the parent position
+            //Stop once the parent should run before the moving index
+            if (order.applyAsInt(index, heap[parent]) >= 0) {
+                break;
+            }
+            heap[pos] = heap[parent]; //Move the parent down one level
+            position[heap[pos]] = pos;
+            pos = parent;
+        }
+        heap[pos] = index; //Store the index in its final position
+        position[index] = pos;
+    }
+
+    //This method moves the index at the given position down towards the leaves
+    private void siftDown(int pos) {
+        int index = heap[pos]; //Remember the index being moved
+        int half = size >>> 1; //Positions from here on are leaves
+        while (pos < half) {
+            int child = 2 * pos + 1; //Start with the left child
+            //If the right child should run first, use it instead
+            if (child + 1 < size && order.applyAsInt(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            //Stop once the moving index should run before the smaller child
+            if (order.applyAsInt(index, heap[child]) <= 0) {
+                break;
+            }
+            heap[pos] = heap[child]; //Move the child up one level
+            position[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = index; //Store the index in its final position
+        position[index] = pos;
+    }
+}
@@ -0,0 +1,18 @@
+//This interface represents a ready queue of process row indices
+//Implementations decide the dispatch order: IntQueue is first-in first-out and ReadyHeap orders rows with a comparator
+interface ReadyQueue {
+    //This method adds a row to the queue
+    void add(int row);
+
+    //This method removes and returns the next row to dispatch
+    int poll();
+
+    //This method returns true if there are no rows in the queue
+    boolean isEmpty();
+
+    //This method returns the number of rows in the queue
+    int size();
+
+    //This method removes every row from the queue
+    void clear();
+}
@@ -0,0 +1,302 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+//This class represents a ready queue as a red-black tree of process indices, ordered by a comparator like ReadyHeap
+//The tree is intrusive: the links and colours of each index live in int columns indexed by the index itself,
+//so adding and removing never allocates a node object; poll removes the leftmost (first) index in O(log n)
+//Slot 0 of the columns is the black sentinel leaf, so index i is stored in slot i + 1
+class ReadyTree implements ReadyQueue {
+    private static final int NIL = 0; //This constant is the sentinel leaf that ends every path
+
+    private int[] left, right, parent; //These columns store the links of each slot
+    private boolean[] red; //This column is true for red slots and false for black slots
+    private int root = NIL; //This variable stores the slot at the root of the tree
+    private int first = NIL; //This variable caches the leftmost slot, the next index to run
+    private int size; //This variable stores the number of indices in the tree
+    private final IntBinaryOperator order; //This comparator returns a negative value when the first index should run first
+
+    //This constructor creates an empty tree with room for indices below the given capacity
+    ReadyTree(int capacity, IntBinaryOperator order) {
+        int slots = Math.max(1, capacity) + 1;
+        left = new int[slots];
+        right = new int[slots];
+        parent = new int[slots];
+        red = new boolean[slots];
+        this.order = order;
+    }
+
+    //This method returns true if there are no indices in the tree
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    //This method returns the number of indices in the tree
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //This method removes every index from the tree; the columns are overwritten when indices are added again
+    @Override
+    public void clear() {
+        root = NIL;
+        first = NIL;
+        size = 0;
+    }
+
+    //This method returns the index that runs first without removing it
+    int peek() {
+        //If the tree is empty, there is nothing to return
+        if (size == 0) {
+            throw new IllegalStateException("Ready tree is empty");
+        }
+        return first - 1;
+    }
+
+    //This method adds an index to the tree in O(log n)
+    @Override
+    public void add(int index) {
+        int node = index + 1;
+        //If the index is beyond the columns, grow them to cover it
+        if (node >= left.length) {
+            int slots = Math.max(node + 1, left.length * 2);
+            left = Arrays.copyOf(left, slots);
+            right = Arrays.copyOf(right, slots);
+            parent = Arrays.copyOf(parent, slots);
+            red = Arrays.copyOf(red, slots);
+        }
+        //Walk down to the leaf where the index belongs; equal indices go to the right so they leave in insertion order
+        int up = NIL, at = root;
+        boolean goLeft = false, leftmost = true;
+        while (at != NIL) {
+            up = at;
+            goLeft = order.applyAsInt(index, at - 1) < 0;
+            if (goLeft) {
+                at = left[at];
+            } else {
+                at = right[at];
+                leftmost = false;
+            }
+        }
+        parent[node] = up;
+        left[node] = NIL;
+        right[node] = NIL;
+        red[node] = true;
+        if (up == NIL) {
+            root = node;
+        } else if (goLeft) {
+            left[up] = node;
+        } else {
+            right[up] = node;
+        }
+        if (leftmost) {
+            first = node;
+        }
+        size++;
+        fixAfterInsert(node);
+    }
+
+    //This method removes and returns the index that runs first in O(log n)
+    @Override
+    public int poll() {
+        int index = peek();
+        remove(first);
+        return index;
+    }
+
+    //This method restores the red-black rules after a red slot was linked in
+    private void fixAfterInsert(int node) {
+        while (red[parent[node]]) {
+            int up = parent[node], grand = parent[up];
+            if (up == left[grand]) {
+                int uncle = right[grand];
+                //If the uncle is red, recolour and continue from the grandparent
+                if (red[uncle]) {
+                    red[up] = false;
+                    red[uncle] = false;
+                    red[grand] = true;
+                    node = grand;
+                    continue;
+                }
+                if (node == right[up]) {
+                    node = up;
+                    rotateLeft(node);
+                    up = parent[node];
+                }
+                red[up] = false;
+                red[grand] = true;
+                rotateRight(grand);
+            } else {
+                int uncle = left[grand];
+                if (red[uncle]) {
+                    red[up] = false;
+                    red[uncle] = false;
+                    red[grand] = true;
+                    node = grand;
+                    continue;
+                }
+                if (node == left[up]) {
+                    node = up;
+                    rotateRight(node);
+                    up = parent[node];
+                }
+                red[up] = false;
+                red[grand] = true;
+                rotateLeft(grand);
+            }
+        }
+        red[root] = false;
+    }
+
+    //This method unlinks a slot from the tree and restores the red-black rules
+    private void remove(int node) {
+        //Find the leftmost slot again once the cached one leaves: it is the next slot in order
+        if (node == first) {
+            first = successor(node);
+        }
+        int moved = node; //This slot is the one actually unlinked from its position
+        boolean movedWasRed = red[moved];
+        int child;
+        if (left[node] == NIL) {
+            child = right[node];
+            transplant(node, child);
+        } else if (right[node] == NIL) {
+            child = left[node];
+            transplant(node, child);
+        } else {
+            moved = right[node];
+            while (left[moved] != NIL) {
+                moved = left[moved];
+            }
+            movedWasRed = red[moved];
+            child = right[moved];
+            if (parent[moved] == node) {
+                parent[child] = moved; //The sentinel may be the child, so its parent is set for the fix-up walk
+            } else {
+                transplant(moved, child);
+                right[moved] = right[node];
+                parent[right[moved]] = moved;
+            }
+            transplant(node, moved);
+            left[moved] = left[node];
+            parent[left[moved]] = moved;
+            red[moved] = red[node];
+        }
+        size--;
+        if (!movedWasRed) {
+            fixAfterRemove(child);
+        }
+    }
+
+    //This method returns the slot that follows the given slot in order, or NIL if it is the last one
+    private int successor(int node) {
+        if (right[node] != NIL) {
+            node = right[node];
+            while (left[node] != NIL) {
+                node = left[node];
+            }
+            return node;
+        }
+        int up = parent[node];
+        while (up != NIL && node == right[up]) {
+            node = up;
+            up = parent[up];
+        }
+        return up;
+    }
+
+    //This method restores the red-black rules after a black slot was unlinked above the given slot
+    private void fixAfterRemove(int node) {
+        while (node != root && !red[node]) {
+            int up = parent[node];
+            if (node == left[up]) {
+                int sibling = right[up];
+                if (red[sibling]) {
+                    red[sibling] = false;
+                    red[up] = true;
+                    rotateLeft(up);
+                    sibling = right[up];
+                }
+                if (!red[left[sibling]] && !red[right[sibling]]) {
+                    red[sibling] = true;
+                    node = up;
+                    continue;
+                }
+                if (!red[right[sibling]]) {
+                    red[left[sibling]] = false;
+                    red[sibling] = true;
+                    rotateRight(sibling);
+                    sibling = right[up];
+                }
+                red[sibling] = red[up];
+                red[up] = false;
+                red[right[sibling]] = false;
+                rotateLeft(up);
+            } else {
+                int sibling = left[up];
+                if (red[sibling]) {
+                    red[sibling] = false;
+                    red[up] = true;
+                    rotateRight(up);
+                    sibling = left[up];
+                }
+                if (!red[left[sibling]] && !red[right[sibling]]) {
+                    red[sibling] = true;
+                    node = up;
+                    continue;
+                }
+                if (!red[left[sibling]]) {
+                    red[right[sibling]] = false;
+                    red[sibling] = true;
+                    rotateLeft(sibling);
+                    sibling = left[up];
+                }
+                red[sibling] = red[up];
+                red[up] = false;
+                red[left[sibling]] = false;
+                rotateRight(up);
+            }
+            node = root;
+        }
+        red[node] = false;
+    }
+
+    //This method puts the subtree at the second slot where the first slot was
+    private void transplant(int node, int replacement) {
+        int up = parent[node];
+        if (up == NIL) {
+            root = replacement;
+        } else if (node == left[up]) {
+            left[up] = replacement;
+        } else {
+            right[up] = replacement;
+        }
+        parent[replacement] = up;
+    }
+
+    //This method rotates the given slot down to the left of its right child
+    private void rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        if (left[pivot] != NIL) {
+            parent[left[pivot]] = node;
+        }
+        transplant(node, pivot);
+        left[pivot] = node;
+        parent[node] = pivot;
+    }
+
+    //This method rotates the given slot down to the right of its left child
+    private void rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        if (right[pivot] != NIL) {
+            parent[right[pivot]] = node;
+        }
+        transplant(node, pivot);
+        right[pivot] = node;
+        parent[node] = pivot;
+    }
+}
@@ -0,0 +1,143 @@
+//Importing the necessary libraries
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+//This class generates a synthetic page reference string from a seed, one reference at a time, so strings of any length need no storage
+//ZIPF draws every reference independently with page k (counting from 0) chosen in proportion to 1 / (k + 1)^exponent,
+//using rejection-inversion sampling, which needs no table and takes O(1) expected time however many pages there are
+//WORKING_SET follows Denning's phase model: for a geometric number of references the program stays in a window of pages
+//(LOCALITY of its references fall in the window, the rest anywhere), then the window jumps to a new random place
+final class ReferenceGenerator {
+    //This enum lists the reference models
+    enum Model { ZIPF, WORKING_SET }
+
+    //These constants are the defaults of the command line options
+    static final int DEFAULT_PAGES = 1024, DEFAULT_WORKING_SET = 32, DEFAULT_PHASE_LENGTH = 1000;
+    static final double DEFAULT_ZIPF_EXPONENT = 1;
+    //This constant is the share of references that fall inside the working set
+    static final double LOCALITY = 0.9;
+
+    private final SplittableRandom rand; //This variable stores the random number generator
+    final Model model;
+    final int pages; //This variable stores the number of distinct pages
+    private final double exponent; //This variable stores the Zipf exponent
+    private final int setSize; //This variable stores the size of the working set window
+    private final double phaseLength; //This variable stores the mean number of references in a phase
+    //These variables store the precomputed bounds of the rejection-inversion sampler
+    private final double hIntegralFirst, hIntegralLast, squeeze;
+    private int setStart; //This variable stores the first page of the current working set
+    private long phaseLeft; //This variable counts the references left in the current phase
+
+    //This constructor creates a generator over the given number of pages
+    ReferenceGenerator(Model model, int pages, long seed, double exponent, int setSize, int phaseLength) {
+        //If there are no pages, no reference can be drawn
+        if (pages <= 0) {
+            throw new IllegalArgumentException("Page count must be positive: " + pages);
+        }
+        //If the exponent is not positive, the distribution is not a Zipf law
+        if (model == Model.ZIPF && !(exponent > 0)) {
+            throw new IllegalArgumentException("Zipf exponent must be positive: " + exponent);
+        }
+        //If the window or phase is empty, the working set model is not defined
+        if (model == Model.WORKING_SET && (setSize <= 0 || phaseLength <= 0)) {
+            throw new IllegalArgumentException("Working set size and phase length must be positive: " + setSize + ", " + phaseLength);
+        }
+        this.rand = new SplittableRandom(seed);
+        this.model = model;
+        this.pages = pages;
+        this.exponent = exponent;
+        this.setSize = Math.min(setSize, pages);
+        this.phaseLength = phaseLength;
+        this.hIntegralFirst = hIntegral(1.5) - 1;
+        this.hIntegralLast = hIntegral(pages + 0.5);
+        this.squeeze = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    //This method reads a generator from the command line options:
+    //--ref-model zipf|working-set  --pages P  --seed S  --zipf-exponent E  --working-set W  --phase-length L
+    static ReferenceGenerator fromArgs(String[] args) {
+        String modelOption = OperatingSystemSchedulesProcesses.optionValue(args, "--ref-model");
+        String pagesOption = OperatingSystemSchedulesProcesses.optionValue(args, "--pages");
+        String exponentOption = OperatingSystemSchedulesProcesses.optionValue(args, "--zipf-exponent");
+        String setOption = OperatingSystemSchedulesProcesses.optionValue(args, "--working-set");
+        String phaseOption = OperatingSystemSchedulesProcesses.optionValue(args, "--phase-length");
+        return new ReferenceGenerator(modelOption == null ? Model.ZIPF : parseModel(modelOption),
+                pagesOption == null ? DEFAULT_PAGES : Integer.parseInt(pagesOption.trim()), WorkloadGenerator.seed(args),
+                exponentOption == null ? DEFAULT_ZIPF_EXPONENT : Double.parseDouble(exponentOption.trim()),
+                setOption == null ? DEFAULT_WORKING_SET : Integer.parseInt(setOption.trim()),
+                phaseOption == null ? DEFAULT_PHASE_LENGTH : Integer.parseInt(phaseOption.trim()));
+    }
+
+    //This method returns the model with the given name
+    static Model parseModel(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "zipf":
+                return Model.ZIPF;
+            case "working-set":
+                return Model.WORKING_SET;
+            default:
+                throw new IllegalArgumentException("Unknown reference model: " + name + " (expected zipf or working-set)");
+        }
+    }
+
+    //This method returns the next page number
+    int next() {
+        if (model == Model.ZIPF) {
+            return zipf() - 1;
+        }
+        if (phaseLeft == 0) {
+            //Start a new phase: a fresh window and a geometric length with the mean phase length
+            setStart = rand.nextInt(pages - setSize + 1);
+            phaseLeft = 1 + (long) (phaseLength * rand.nextExponential());
+        }
+        phaseLeft--;
+        return rand.nextDouble() < LOCALITY ? setStart + rand.nextInt(setSize) : rand.nextInt(pages);
+    }
+
+    //This method fills part of a block with the next references
+    void fill(int[] block, int from, int length) {
+        for (int i = from; i < from + length; i++) {
+            block[i] = next();
+        }
+    }
+
+    //This method draws a Zipf rank between 1 and pages by rejection-inversion (Hormann and Derflinger, 1996)
+    private int zipf() {
+        while (true) {
+            double u = hIntegralLast + rand.nextDouble() * (hIntegralFirst - hIntegralLast);
+            double x = hIntegralInverse(u);
+            int k = (int) Math.max(1, Math.min(pages, (long) (x + 0.5)));
+            //Most draws are accepted by the cheap squeeze test; the rest are checked against the exact hat
+            if (k - x <= squeeze || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    //This method returns the unnormalized probability of rank x: x^-exponent
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    //This method returns an antiderivative of h, written so it stays accurate when the exponent is close to 1
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    //This method returns the inverse of hIntegral
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    //This method returns log(1 + x) / x, using its series near 0
+    private static double log1pOverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    //This method returns (e^x - 1) / x, using its series near 0
+    private static double expm1OverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+    }
+}
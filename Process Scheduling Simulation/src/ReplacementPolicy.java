@@ -0,0 +1,30 @@
+//This interface is a page replacement policy simulated over a fixed number of frames
+//A policy is fed one page reference at a time and counts its own references, faults and evictions,
+//so every policy can be replayed over the same reference string and compared on the same figures
+interface ReplacementPolicy {
+    //This method returns the short policy name (e.g., "LRU")
+    String name();
+
+    //This method references a page and returns true if it was already resident (a hit)
+    boolean access(int page);
+
+    //This method references every page in the given range of a reference string and returns the number of faults it caused
+    long run(int[] pageReferences, int from, int to);
+
+    //This method empties every frame and zeroes the counters
+    void reset();
+
+    //This method returns the number of pages referenced so far
+    long references();
+
+    //This method returns the number of references that found their page missing
+    long faults();
+
+    //This method returns the number of resident pages that were replaced
+    long evictions();
+
+    //This method returns the fraction of references that were hits
+    default double hitRatio() {
+        return references() == 0 ? 0 : 1.0 - (double) faults() / references();
+    }
+}
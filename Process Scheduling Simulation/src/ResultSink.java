@@ -0,0 +1,28 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+//This interface renders ScheduleResults to one buffered writer
+//Formatting only happens inside a sink, so a run whose result is never written does no formatting work
+interface ResultSink {
+    //This method renders one result
+    void write(ScheduleResult result) throws IOException;
+
+    //This method writes anything that follows the last result and flushes the writer
+    void finish() throws IOException;
+
+    //This method returns the sink for the given format name ("text", "csv" or "json")
+    static ResultSink forFormat(String format, Writer out) {
+        switch (format.toLowerCase(Locale.ROOT)) {
+            case "text":
+                return new TextResultSink(out);
+            case "csv":
+                return new CsvResultSink(out);
+            case "json":
+                return new JsonResultSink(out);
+            default:
+                throw new IllegalArgumentException("Unknown output format: " + format + " (expected text, csv or json)");
+        }
+    }
+}
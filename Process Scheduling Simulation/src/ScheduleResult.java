@@ -0,0 +1,85 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class holds the outcome of one scheduling run: per-process metrics, a compact Gantt chart and aggregate statistics
+//The per-process metrics are read straight from the run's columns, so building a result costs one pass over the rows
+//and no text is produced until the result is handed to a ResultSink
+class ScheduleResult {
+    final String algorithm; //This variable stores the short algorithm name (e.g., "FCFS" or "RR")
+    final String title; //This variable stores the heading used when the result is printed
+    final int timeQuantum; //This variable stores the time quantum, or 0 if the algorithm does not use one
+    final ProcessTable table; //This variable stores the table the run scheduled
+    final ProcessTable.RunState run; //This variable stores the per-process results of the run
+    final GanttLog gantt; //This variable stores the Gantt chart, or null if the run was headless or its segments were streamed elsewhere
+    final boolean reportByPid; //This variable is true if per-process results are reported in PID order instead of finish order
+    final boolean showPriority; //This variable is true if the text report includes each process's priority
+    final long wallNanos; //This variable stores the wall-clock time the run took
+
+    //These variables store the aggregate statistics of the run
+    final int count, makespan, maxWaiting, contextSwitches;
+    final long busyTime, overheadTime;
+    final double avgWaiting, avgTurnaround, avgResponse;
+    final ScheduleStats stats; //This variable stores the run's collector, which also holds the percentiles and fairness index
+
+    //This constructor summarizes a finished run from the statistics collected as its rows finished
+    ScheduleResult(String algorithm, String title, int timeQuantum, ProcessTable table, ProcessTable.RunState run,
+                   GanttSink gantt, boolean reportByPid, boolean showPriority, long wallNanos) {
+        this.algorithm = algorithm;
+        this.title = title;
+        this.timeQuantum = timeQuantum;
+        this.table = table;
+        this.run = run;
+        this.gantt = gantt instanceof GanttLog ? (GanttLog) gantt : null; //Only a GanttLog can be rendered again later
+        this.reportByPid = reportByPid;
+        this.showPriority = showPriority;
+        this.wallNanos = wallNanos;
+        this.stats = run.stats;
+        this.count = run.finished;
+        this.makespan = (int) stats.lastCompletion();
+        this.maxWaiting = (int) stats.waiting.max();
+        this.contextSwitches = run.contextSwitches;
+        this.overheadTime = run.overheadTime;
+        this.busyTime = stats.busyTime();
+        this.avgWaiting = stats.waiting.mean();
+        this.avgTurnaround = stats.turnaround.mean();
+        this.avgResponse = stats.response.mean();
+    }
+
+    //This method returns the fraction of the schedule in which the CPU was running a process, not counting switching time
+    double utilization() {
+        return makespan == 0 ? 0 : (double) busyTime / makespan;
+    }
+
+    //This method returns the fraction of the schedule the CPU spent switching between processes
+    double overheadShare() {
+        return makespan == 0 ? 0 : (double) overheadTime / makespan;
+    }
+
+    //This method returns the number of processes completed per unit of time
+    double throughput() {
+        return makespan == 0 ? 0 : (double) count / makespan;
+    }
+
+    //This method returns a short label that tells runs of the same algorithm apart (e.g., "RR (q=4)")
+    String label() {
+        return timeQuantum > 0 ? algorithm + " (q=" + timeQuantum + ")" : algorithm;
+    }
+
+    //This method returns the rows in the order they should be reported
+    //The PID order is sorted on demand, keeping the finish order for equal PIDs
+    int[] reportOrder() {
+        if (!reportByPid) {
+            return Arrays.copyOf(run.finishOrder, run.finished);
+        }
+        long[] keys = new long[run.finished];
+        for (int rank = 0; rank < run.finished; rank++) {
+            keys[rank] = ((long) table.pid[run.finishOrder[rank]] << 32) | rank;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = run.finishOrder[(int) keys[i]];
+        }
+        return order;
+    }
+}
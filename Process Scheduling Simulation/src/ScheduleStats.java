@@ -0,0 +1,84 @@
+//This class collects the statistics of a schedule one finished process at a time
+//Waiting, turnaround and response times and slowdown each go into a LatencyHistogram, so percentiles cost constant memory
+//however many processes finish, and the collectors of runs done in parallel can be merged into one
+//Slowdown (turnaround divided by burst) is recorded in thousandths so it fits the histogram's whole-number buckets
+class ScheduleStats {
+    //This constant is the fixed-point scale slowdown is recorded at
+    static final int SLOWDOWN_SCALE = 1000;
+
+    final LatencyHistogram waiting = new LatencyHistogram(); //This histogram stores the waiting time of each process
+    final LatencyHistogram turnaround = new LatencyHistogram(); //This histogram stores the turnaround time of each process
+    final LatencyHistogram response = new LatencyHistogram(); //This histogram stores the response time (cpuInit - arrival) of each process
+    final LatencyHistogram slowdown = new LatencyHistogram(); //This histogram stores the slowdown of each process in thousandths
+    private long busyTime; //This variable stores the total burst time of the finished processes
+    private long lastCompletion; //This variable stores the latest completion time
+    private double slowdownSum, slowdownSquares; //These variables store the sums Jain's fairness index is computed from
+
+    //This method records one finished process
+    void record(int arrival, int burst, int cpuInit, int completion) {
+        int turnaroundTime = completion - arrival;
+        waiting.record(turnaroundTime - burst);
+        turnaround.record(turnaroundTime);
+        response.record(cpuInit - arrival);
+        double ratio = burst > 0 ? (double) turnaroundTime / burst : 1; //A process with no work is treated as not slowed down
+        slowdown.record(Math.round(ratio * SLOWDOWN_SCALE));
+        slowdownSum += ratio;
+        slowdownSquares += ratio * ratio;
+        busyTime += burst;
+        lastCompletion = Math.max(lastCompletion, completion);
+    }
+
+    //This method adds everything the other collector recorded to this one
+    void merge(ScheduleStats other) {
+        waiting.merge(other.waiting);
+        turnaround.merge(other.turnaround);
+        response.merge(other.response);
+        slowdown.merge(other.slowdown);
+        busyTime += other.busyTime;
+        lastCompletion = Math.max(lastCompletion, other.lastCompletion);
+        slowdownSum += other.slowdownSum;
+        slowdownSquares += other.slowdownSquares;
+    }
+
+    //This method forgets every recorded process
+    void clear() {
+        waiting.clear();
+        turnaround.clear();
+        response.clear();
+        slowdown.clear();
+        busyTime = 0;
+        lastCompletion = 0;
+        slowdownSum = 0;
+        slowdownSquares = 0;
+    }
+
+    //This method returns the number of recorded processes
+    long count() {
+        return waiting.count();
+    }
+
+    //This method returns the total burst time of the recorded processes
+    long busyTime() {
+        return busyTime;
+    }
+
+    //This method returns the latest completion time, the makespan of a schedule that starts at time 0
+    long lastCompletion() {
+        return lastCompletion;
+    }
+
+    //This method returns the number of processes completed per unit of time
+    double throughput() {
+        return lastCompletion == 0 ? 0 : (double) count() / lastCompletion;
+    }
+
+    //This method returns the slowdown at the given percentile
+    double slowdownPercentile(double percent) {
+        return (double) slowdown.percentile(percent) / SLOWDOWN_SCALE;
+    }
+
+    //This method returns Jain's fairness index over the slowdowns: 1 when every process is slowed down equally, down to 1/n
+    double fairness() {
+        return slowdownSquares == 0 ? 1 : slowdownSum * slowdownSum / (count() * slowdownSquares);
+    }
+}
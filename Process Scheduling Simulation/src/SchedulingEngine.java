@@ -0,0 +1,153 @@
+//Importing the necessary libraries
+import java.util.function.IntBinaryOperator;
+
+//This class runs the four scheduling algorithms against a ProcessTable
+//Each run resets the given RunState and writes only into its int columns and the GanttSink, so nothing is allocated per process
+//The Gantt sink may be null, in which case no segments are recorded
+//Each algorithm returns a ScheduleResult wrapping the run; nothing is printed here
+final class SchedulingEngine {
+    private SchedulingEngine() {
+    }
+
+    //This method simulates First-Come, First-Served scheduling in table order
+    static ScheduleResult fcfs(ProcessTable table, ProcessTable.RunState run, GanttSink gantt) {
+        long startNanos = System.nanoTime();
+        run.reset(table);
+        int time = 0; //Initialize simulation time to 0
+        for (int row = 0; row < table.size; row++) {
+            int arrival = table.arrival[row];
+            //If the CPU is free before the process arrives, it is idle until then
+            if (time < arrival) {
+                if (gantt != null)
+                    gantt.add(GanttLog.IDLE, time, arrival);
+                time = arrival;
+            }
+            int start = run.dispatch(row, time, gantt); //Record the start time for the process, after any switching time
+            time = start + table.burst[row];
+            run.complete(row, time);
+            if (gantt != null)
+                gantt.add(table.pid[row], start, time);
+        }
+        return new ScheduleResult("FCFS", "FCFS Scheduling", 0, table, run, gantt, false, false, System.nanoTime() - startNanos);
+    }
+
+    //This method simulates Shortest Job First scheduling (non-preemptive)
+    //The shortest burst runs first, breaking ties on arrival time and then PID
+    static ScheduleResult sjf(ProcessTable table, ProcessTable.RunState run, GanttSink gantt) {
+        long startNanos = System.nanoTime();
+        heapScheduling(table, run, gantt, new ReadyHeap(table.size, sjfOrder(table)));
+        return new ScheduleResult("SJF", "SJF Scheduling (Non-Preemptive)", 0, table, run, gantt, false, false, System.nanoTime() - startNanos);
+    }
+
+    //This method simulates Priority scheduling (non-preemptive) where the highest priority value runs first
+    //Ties are broken on arrival time and then PID
+    static ScheduleResult priority(ProcessTable table, ProcessTable.RunState run, GanttSink gantt) {
+        long startNanos = System.nanoTime();
+        heapScheduling(table, run, gantt, new ReadyHeap(table.size, priorityOrder(table)));
+        return new ScheduleResult("Priority", "Priority Scheduling (Non-Preemptive)", 0, table, run, gantt, false, true, System.nanoTime() - startNanos);
+    }
+
+    //This method returns the SJF ready order: shortest burst first, then earliest arrival, then lowest PID, then row
+    static IntBinaryOperator sjfOrder(ProcessTable table) {
+        int[] burst = table.burst, arrival = table.arrival, pid = table.pid;
+        return (a, b) -> {
+            if (burst[a] != burst[b])
+                return Integer.compare(burst[a], burst[b]);
+            if (arrival[a] != arrival[b])
+                return Integer.compare(arrival[a], arrival[b]);
+            if (pid[a] != pid[b])
+                return Integer.compare(pid[a], pid[b]);
+            return Integer.compare(a, b);
+        };
+    }
+
+    //This method returns the Priority ready order: highest priority value first, then earliest arrival, then lowest PID, then row
+    static IntBinaryOperator priorityOrder(ProcessTable table) {
+        int[] priority = table.priority, arrival = table.arrival, pid = table.pid;
+        return (a, b) -> {
+            if (priority[a] != priority[b])
+                return Integer.compare(priority[b], priority[a]);
+            if (arrival[a] != arrival[b])
+                return Integer.compare(arrival[a], arrival[b]);
+            if (pid[a] != pid[b])
+                return Integer.compare(pid[a], pid[b]);
+            return Integer.compare(a, b);
+        };
+    }
+
+    //This method runs a non-preemptive schedule driven by arrival events and a ready min-heap
+    //Rows are admitted once from the arrival-sorted order and dispatched once in O(log n)
+    static void heapScheduling(ProcessTable table, ProcessTable.RunState run, GanttSink gantt, ReadyHeap ready) {
+        run.reset(table);
+        int[] byArrival = table.byArrival();
+        int next = 0; //This cursor points at the next row that has not arrived yet
+        int time = 0; //Initialize simulation time
+        while (run.finished < table.size) {
+            //Admit every row that has arrived by the current time
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                ready.add(byArrival[next++]);
+            }
+            //If no row is ready, the CPU is idle until the next arrival
+            if (ready.isEmpty()) {
+                int nextArrival = table.arrival[byArrival[next]];
+                if (gantt != null)
+                    gantt.add(GanttLog.IDLE, time, nextArrival);
+                time = nextArrival;
+                continue;
+            }
+            int current = ready.poll(); //Dispatch the row at the top of the heap
+            int start = run.dispatch(current, time, gantt);
+            time = start + table.burst[current];
+            run.complete(current, time);
+            if (gantt != null)
+                gantt.add(table.pid[current], start, time);
+        }
+    }
+
+    //This method simulates Round Robin scheduling with the given time quantum
+    //Dispatch and re-queueing are O(1), and each row is admitted exactly once by advancing an arrival cursor
+    static ScheduleResult roundRobin(ProcessTable table, ProcessTable.RunState run, GanttSink gantt, int timeQuantum) {
+        //If the time quantum is not positive, the schedule would never make progress
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        long startNanos = System.nanoTime();
+        run.reset(table);
+        int[] byArrival = table.byArrival();
+        IntQueue queue = new IntQueue(table.size); //Create the ready queue; every row is in it at most once
+        int next = 0; //This cursor points at the next row that has not arrived yet
+        int time = 0;
+        while (!queue.isEmpty() || next < byArrival.length) {
+            //If no row is ready, jump to the next arrival and admit everything that arrives at that time
+            if (queue.isEmpty()) {
+                int nextArrival = table.arrival[byArrival[next]];
+                if (time < nextArrival) {
+                    if (gantt != null)
+                        gantt.add(GanttLog.IDLE, time, nextArrival);
+                    time = nextArrival;
+                }
+                while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                    queue.addLast(byArrival[next++]);
+                }
+            }
+            int current = queue.pollFirst();
+            int start = run.dispatch(current, time, gantt);
+            int execTime = Math.min(timeQuantum, run.remaining[current]);
+            time = start + execTime;
+            run.remaining[current] -= execTime;
+            if (gantt != null)
+                gantt.add(table.pid[current], start, time);
+            //Rows that arrived during this slice are queued ahead of the preempted row
+            while (next < byArrival.length && table.arrival[byArrival[next]] <= time) {
+                queue.addLast(byArrival[next++]);
+            }
+            if (run.remaining[current] > 0) {
+                queue.addLast(current);
+            } else {
+                run.complete(current, time);
+            }
+        }
+        return new ScheduleResult("RR", "Round Robin Scheduling (Time Quantum = " + timeQuantum + ")", timeQuantum,
+                table, run, gantt, true, false, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,244 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class is a slab allocator: memory is cut into equal slabs, and each slab in use serves objects of one size class
+//A request takes an object from a partly used slab of the smallest class that holds it, or starts a new slab for that class;
+//a slab whose objects are all freed goes back to the shared pool, so memory moves between classes as the workload changes
+//Slabs and objects are linked through int columns, so allocate and free are O(1) apart from finding the class
+//The bytes at the end of a slab that are too few for another object of its class count as allocated while the slab serves that class,
+//so they show up as internal fragmentation as the rounding of buddy blocks does
+class SlabAllocator implements Allocator {
+    //This constant marks the end of a list
+    private static final int NIL = -1;
+
+    private final int slabSize; //This variable stores the size of every slab
+    private final int[] classSize; //This array stores the object size of each class, in ascending order
+    private final int[] partial; //This array stores, per class, the first slab that has both used and free objects
+    private final int[] slabClass, used, fresh, freeObject; //These arrays store each slab's class, used objects, untouched objects and free list
+    private final int[] prevSlab, nextSlab; //These arrays link slabs in their class's partial list or in the empty pool
+    private final int[][] nextObject; //This array links each slab's free objects; a slab's links are created when it first serves a class that needs them
+    private int emptySlabs = NIL; //This variable stores the first slab not assigned to any class
+    private final PageMap requested; //This map stores the size asked for by each allocated object, by address
+    private long allocatedBytes, requestedBytes; //These variables store the memory held by objects and the memory asked for
+    private long requests, failures; //These variables count allocation requests and failed requests
+
+    //This constructor cuts memorySize into slabs of slabSize and serves the given object sizes
+    //Sizes are deduplicated and sorted; sizes larger than a slab are dropped
+    SlabAllocator(int memorySize, int slabSize, int[] sizes) {
+        if (slabSize <= 0 || memorySize < slabSize) {
+            throw new IllegalArgumentException("Slab size must be positive and no larger than memory: " + slabSize + " of " + memorySize);
+        }
+        this.slabSize = slabSize;
+        int[] classes = Arrays.stream(sizes).filter(s -> s > 0 && s <= slabSize).sorted().distinct().toArray();
+        if (classes.length == 0) {
+            throw new IllegalArgumentException("A slab allocator needs at least one object size no larger than a slab");
+        }
+        classSize = classes;
+        partial = new int[classes.length];
+        Arrays.fill(partial, NIL);
+        int slabs = memorySize / slabSize;
+        slabClass = new int[slabs];
+        used = new int[slabs];
+        fresh = new int[slabs];
+        freeObject = new int[slabs];
+        prevSlab = new int[slabs];
+        nextSlab = new int[slabs];
+        nextObject = new int[slabs][];
+        for (int slab = slabs - 1; slab >= 0; slab--) {
+            slabClass[slab] = NIL;
+            pushSlab(slab, NIL);
+        }
+        requested = new PageMap(1 << 10);
+    }
+
+    //This method returns the slab object sizes for a list of memory requirements: the most common sizes,
+    //plus power-of-two sizes up to the slab size so that every request that fits in a slab has a class
+    static int[] sizeClasses(int[] memory, int count, int slabSize, int commonSizes) {
+        //Count each distinct size by sorting a copy and measuring runs
+        int[] sorted = Arrays.copyOf(memory, count);
+        Arrays.sort(sorted);
+        long[] runs = new long[count]; //Each run is packed as (length << 32 | size) so sorting ranks sizes by frequency
+        int distinct = 0;
+        for (int i = 0; i < count; ) {
+            int j = i;
+            while (j < count && sorted[j] == sorted[i]) {
+                j++;
+            }
+            if (sorted[i] > 0 && sorted[i] <= slabSize) {
+                runs[distinct++] = ((long) (j - i) << 32) | sorted[i];
+            }
+            i = j;
+        }
+        Arrays.sort(runs, 0, distinct);
+        int common = Math.min(commonSizes, distinct);
+        int generic = 32 - Integer.numberOfLeadingZeros(slabSize);
+        int[] classes = new int[common + generic];
+        for (int i = 0; i < common; i++) {
+            classes[i] = (int) runs[distinct - 1 - i]; //The most frequent sizes come last
+        }
+        for (int i = 0; i < generic; i++) {
+            classes[common + i] = Math.min(slabSize, 1 << (i + 4)); //Generic classes start at 16 units
+        }
+        return classes;
+    }
+
+    //This method returns the allocator name
+    @Override
+    public String name() {
+        return "Slab";
+    }
+
+    //This method allocates an object of the smallest class that holds the request
+    @Override
+    public int allocate(int request) {
+        if (request <= 0) {
+            throw new IllegalArgumentException("Allocation size must be positive: " + request);
+        }
+        requests++;
+        int c = Arrays.binarySearch(classSize, request);
+        if (c < 0) {
+            c = -c - 1; //The first class larger than the request
+        }
+        if (c == classSize.length) { //The request is larger than a slab
+            failures++;
+            return FAILED;
+        }
+        int slab = partial[c];
+        if (slab == NIL) { //Start a new slab for this class
+            slab = emptySlabs;
+            if (slab == NIL) {
+                failures++;
+                return FAILED;
+            }
+            unlinkSlab(slab, NIL);
+            slabClass[slab] = c;
+            used[slab] = 0;
+            fresh[slab] = 0;
+            freeObject[slab] = NIL;
+            //If the slab's links are missing or too short for this class, size them for it; they are kept when the slab is reused
+            int objects = slabSize / classSize[c];
+            if (nextObject[slab] == null || nextObject[slab].length < objects) {
+                nextObject[slab] = new int[objects];
+            }
+            allocatedBytes += slabSize % classSize[c]; //The tail too small for another object is lost while the slab serves this class
+            pushSlab(slab, c);
+        }
+        int object;
+        if (freeObject[slab] != NIL) { //Reuse a freed object
+            object = freeObject[slab];
+            freeObject[slab] = nextObject[slab][object];
+        } else { //Take the next object never used since the slab was assigned
+            object = fresh[slab]++;
+        }
+        used[slab]++;
+        if (used[slab] == slabSize / classSize[c]) { //The slab is full, so it leaves the partial list
+            unlinkSlab(slab, c);
+        }
+        int address = slab * slabSize + object * classSize[c];
+        requested.put(address, request);
+        allocatedBytes += classSize[c];
+        requestedBytes += request;
+        return address;
+    }
+
+    //This method frees an object, returning its slab to the pool once the slab is empty
+    @Override
+    public void free(int address) {
+        int request = requested.get(address);
+        if (request == PageMap.ABSENT) {
+            throw new IllegalArgumentException("No block is allocated at address " + address);
+        }
+        requested.remove(address);
+        int slab = address / slabSize;
+        int c = slabClass[slab];
+        int object = (address % slabSize) / classSize[c];
+        boolean wasFull = used[slab] == slabSize / classSize[c];
+        nextObject[slab][object] = freeObject[slab];
+        freeObject[slab] = object;
+        used[slab]--;
+        allocatedBytes -= classSize[c];
+        requestedBytes -= request;
+        if (used[slab] == 0) { //Give the empty slab back to the pool
+            if (!wasFull) {
+                unlinkSlab(slab, c);
+            }
+            allocatedBytes -= slabSize % classSize[c];
+            slabClass[slab] = NIL;
+            pushSlab(slab, NIL);
+        } else if (wasFull) {
+            pushSlab(slab, c);
+        }
+    }
+
+    //This method puts a slab at the front of a class's partial list, or of the empty pool for NIL
+    private void pushSlab(int slab, int c) {
+        int first = c == NIL ? emptySlabs : partial[c];
+        prevSlab[slab] = NIL;
+        nextSlab[slab] = first;
+        if (first != NIL)
+            prevSlab[first] = slab;
+        if (c == NIL) emptySlabs = slab; else partial[c] = slab;
+    }
+
+    //This method removes a slab from a class's partial list, or from the empty pool for NIL
+    private void unlinkSlab(int slab, int c) {
+        if (prevSlab[slab] != NIL) {
+            nextSlab[prevSlab[slab]] = nextSlab[slab];
+        } else if (c == NIL) {
+            emptySlabs = nextSlab[slab];
+        } else {
+            partial[c] = nextSlab[slab];
+        }
+        if (nextSlab[slab] != NIL)
+            prevSlab[nextSlab[slab]] = prevSlab[slab];
+    }
+
+    //This method returns the total amount of memory managed (whole slabs only)
+    @Override
+    public long capacity() {
+        return (long) slabSize * slabClass.length;
+    }
+
+    //This method returns the amount of memory not held by objects or slab tails, including free objects in partly used slabs
+    @Override
+    public long freeBytes() {
+        return capacity() - allocatedBytes;
+    }
+
+    //This method returns the largest request that can be served: a whole slab if one is empty,
+    //otherwise the largest class that still has a free object
+    @Override
+    public long largestFree() {
+        if (emptySlabs != NIL)
+            return slabSize;
+        for (int c = classSize.length - 1; c >= 0; c--) {
+            if (partial[c] != NIL)
+                return classSize[c];
+        }
+        return 0;
+    }
+
+    //This method returns the memory held by allocated objects, including the rounding up to their class size and the tails of slabs in use
+    @Override
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    //This method returns the memory asked for by the objects still allocated
+    @Override
+    public long requestedBytes() {
+        return requestedBytes;
+    }
+
+    //This method returns the number of allocation requests made so far
+    @Override
+    public long requests() {
+        return requests;
+    }
+
+    //This method returns the number of allocation requests that failed
+    @Override
+    public long failures() {
+        return failures;
+    }
+}
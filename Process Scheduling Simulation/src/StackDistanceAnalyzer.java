@@ -0,0 +1,133 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+//This class computes LRU fault counts for every frame count at once from Mattson's stack distances
+//LRU has the inclusion property: a reference hits with c frames exactly when fewer than c other distinct pages were
+//referenced since the last reference to its page, so one histogram of those distances gives the fault count for every c
+//The distance is counted with a Fenwick tree over time positions, where a bit is set at the last reference of each page,
+//making each reference O(log pages); positions are renumbered once the tree fills, so memory grows with the number
+//of distinct pages rather than with the length of the reference string
+class StackDistanceAnalyzer {
+    private long[] histogram; //This array counts references by stack distance (a distance never exceeds the number of distinct pages)
+    private final PageMap lastPosition; //This map stores the position of the last reference to every page seen so far
+    private int[] owner; //This array stores the page referenced at each position
+    private int[] tree; //This array is the Fenwick tree (1-based) marking the positions that are the last reference to their page
+    private int time; //This variable stores the next free position
+    private long references, coldMisses; //These variables count every reference and the first references to each page
+
+    //This constructor creates an empty analyzer
+    StackDistanceAnalyzer() {
+        histogram = new long[1 << 12];
+        lastPosition = new PageMap(1 << 12);
+        owner = new int[1 << 16];
+        tree = new int[owner.length + 1];
+    }
+
+    //This method references a page and records its stack distance
+    void access(int page) {
+        references++;
+        if (time == owner.length) {
+            compact();
+        }
+        int last = lastPosition.get(page);
+        if (last == PageMap.ABSENT) {
+            coldMisses++; //The page has never been referenced, so it faults with any number of frames
+        } else {
+            //Count the distinct pages referenced since, including this page itself
+            int distance = prefix(time) - prefix(last);
+            if (distance >= histogram.length) {
+                histogram = Arrays.copyOf(histogram, Math.max(histogram.length * 2, distance + 1));
+            }
+            histogram[distance]++;
+            update(last, -1);
+        }
+        update(time, 1);
+        owner[time] = page;
+        lastPosition.put(page, time);
+        time++;
+    }
+
+    //This method references every page in the given range of a reference string
+    void run(int[] pageReferences, int from, int to) {
+        for (int i = from; i < to; i++) {
+            access(pageReferences[i]);
+        }
+    }
+
+    //This method returns the number of marked positions before the given position
+    private int prefix(int position) {
+        int sum = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    //This method adds delta to the mark at the given position
+    private void update(int position, int delta) {
+        for (int i = position + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    //This method renumbers the live positions to 0..pages-1 in their original order and rebuilds the tree
+    //The positions array is doubled first if the distinct pages would fill more than half of it
+    private void compact() {
+        int live = lastPosition.size();
+        int[] source = owner;
+        if (live * 2 > owner.length) {
+            owner = new int[owner.length * 2];
+            tree = new int[owner.length + 1];
+        } else {
+            Arrays.fill(tree, 0);
+        }
+        int next = 0;
+        for (int position = 0; position < time; position++) {
+            int page = source[position];
+            if (lastPosition.get(page) == position) { //Only the last reference to each page is still marked
+                owner[next] = page;
+                lastPosition.put(page, next);
+                next++;
+            }
+        }
+        //Build the tree for the marks at positions 0..next-1 in linear time
+        for (int i = 1; i < tree.length; i++) {
+            if (i <= next) {
+                tree[i] += 1;
+            }
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        time = next;
+    }
+
+    //This method returns the LRU fault count for frame counts 0 to maxFrames: faults[c] is the count with c frames
+    //With at least as many frames as distinct pages only the first reference to each page faults
+    long[] faultCurve(int maxFrames) {
+        long[] faults = new long[maxFrames + 1];
+        long misses = coldMisses;
+        for (int distance = maxFrames + 1; distance < histogram.length; distance++) {
+            misses += histogram[distance]; //References this far back fault with every frame count in the curve
+        }
+        for (int frames = maxFrames; frames >= 1; frames--) {
+            faults[frames] = misses;
+            if (frames < histogram.length) {
+                misses += histogram[frames]; //References at this distance fault with one frame fewer
+            }
+        }
+        faults[0] = references;
+        return faults;
+    }
+
+    //This method returns the number of pages referenced so far
+    long references() {
+        return references;
+    }
+
+    //This method returns the number of distinct pages referenced so far
+    int distinctPages() {
+        return lastPosition.size();
+    }
+}
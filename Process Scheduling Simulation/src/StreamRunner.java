@@ -0,0 +1,101 @@
+//Importing the necessary libraries
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Locale;
+
+//This class runs one algorithm over a trace file without loading it, drawing the Gantt chart as the schedule is produced
+//The full chart is streamed in fixed-width rows; with --gantt-width it is downsampled to a summary of at most that many blocks instead
+//Only aggregate statistics and fixed-size histograms are kept for the processes, so memory stays bounded however long the trace is
+final class StreamRunner {
+    //This constant is the number of Gantt blocks written per row when --gantt-row is not given
+    static final int DEFAULT_BLOCKS_PER_ROW = 16;
+
+    private StreamRunner() {
+    }
+
+    //This class accumulates the statistics printed after a streaming run
+    static final class Totals implements StreamingScheduler.CompletionListener {
+        final ScheduleStats stats = new ScheduleStats(); //This collector receives each process as it finishes
+        long switches, overheadTime;
+
+        @Override
+        public void completed(int pid, int arrival, int burst, int priority, int cpuInit, int completion) {
+            stats.record(arrival, burst, cpuInit, completion);
+        }
+
+        @Override
+        public void switched(int overhead) {
+            switches++;
+            overheadTime += overhead;
+        }
+    }
+
+    //This method schedules the source with the named algorithm
+    static long schedule(String algorithm, ProcessSource source, int timeQuantum, DispatchCost cost, GanttSink gantt,
+                         StreamingScheduler.CompletionListener listener) throws IOException {
+        switch (algorithm) {
+            case BatchRunner.FCFS:
+                return StreamingScheduler.fcfs(source, cost, gantt, listener);
+            case BatchRunner.SJF:
+                return StreamingScheduler.sjf(source, cost, gantt, listener);
+            case BatchRunner.PRIORITY:
+                return StreamingScheduler.priority(source, cost, gantt, listener);
+            case BatchRunner.RR:
+                return StreamingScheduler.roundRobin(source, timeQuantum, cost, gantt, listener);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm + " (expected fcfs, sjf, rr or priority)");
+        }
+    }
+
+    //This method runs streaming mode from the command line options and prints the chart and statistics
+    //Options: --algorithm fcfs|sjf|rr|priority  --gantt-row N  --gantt-width N  --no-merge  --switch-cost N  --warmup N
+    //and the WorkloadGenerator options, starting with --generate N, to schedule a generated workload instead of the trace,
+    //or --events FILE  --event-scale N  --max-burst N to replay a recorded scheduler event log (see EventLogReader)
+    static void runFromArgs(Path trace, String[] args, int timeQuantum) throws IOException {
+        String algorithmName = OperatingSystemSchedulesProcesses.optionValue(args, "--algorithm");
+        String rowOption = OperatingSystemSchedulesProcesses.optionValue(args, "--gantt-row");
+        String widthOption = OperatingSystemSchedulesProcesses.optionValue(args, "--gantt-width");
+        String algorithm = algorithmName == null ? BatchRunner.FCFS : algorithmName.trim().toLowerCase(Locale.ROOT);
+        int blocksPerRow = rowOption == null ? DEFAULT_BLOCKS_PER_ROW : Integer.parseInt(rowOption);
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+        StreamingGanttRenderer renderer = null;
+        GanttSummary summary = null;
+        if (widthOption != null) {
+            summary = new GanttSummary(Integer.parseInt(widthOption));
+        } else {
+            renderer = new StreamingGanttRenderer(out, blocksPerRow, !OperatingSystemSchedulesProcesses.hasFlag(args, "--no-merge"));
+        }
+        DispatchCost cost = DispatchCost.fromArgs(args);
+        Totals totals = new Totals();
+        out.write("\n--- Streaming " + algorithm.toUpperCase(Locale.ROOT)
+                + (algorithm.equals(BatchRunner.RR) ? " (q=" + timeQuantum + ")" : "") + " ---\n");
+        //A generated workload ("--generate N") or an event log ("--events FILE") is scheduled as it is read instead of the trace file
+        try (ProcessSource source = OperatingSystemSchedulesProcesses.openSource(trace.toString(), args)) {
+            schedule(algorithm, source, timeQuantum, cost, summary != null ? summary : renderer, totals);
+        }
+        if (summary != null) {
+            summary.render(out);
+        } else {
+            renderer.finish();
+        }
+        ScheduleStats stats = totals.stats;
+        out.write(String.format(Locale.ROOT, "\nProcesses: %d\n", stats.count()));
+        out.write(String.format(Locale.ROOT, "Average Waiting Time: %.2f\n", stats.waiting.mean()));
+        out.write(String.format(Locale.ROOT, "Average Turnaround Time: %.2f\n", stats.turnaround.mean()));
+        out.write(String.format(Locale.ROOT, "Average Response Time: %.2f\n", stats.response.mean()));
+        out.write(String.format(Locale.ROOT, "Maximum Waiting Time: %d\n", stats.waiting.max()));
+        out.write(String.format(Locale.ROOT, "Makespan: %d\n", stats.lastCompletion()));
+        out.write(String.format(Locale.ROOT, "Context Switches: %d\n", totals.switches));
+        //If switching costs time, write how much of the schedule it took
+        if (!cost.isFree()) {
+            double makespan = Math.max(1, stats.lastCompletion());
+            out.write(String.format(Locale.ROOT, "Switching Overhead: %d (%.2f%%)\n", totals.overheadTime, 100 * totals.overheadTime / makespan));
+            out.write(String.format(Locale.ROOT, "CPU Utilization: %.2f%%\n", 100 * stats.busyTime() / makespan));
+        }
+        TextResultSink.writePercentiles(out, stats);
+        out.flush();
+    }
+}
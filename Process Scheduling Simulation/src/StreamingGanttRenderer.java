@@ -0,0 +1,108 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+//This class renders a Gantt chart while the schedule is still running
+//Adjacent segments with the same label are merged, and blocks are written in rows of a fixed number of blocks
+//(labels on one line, start times below), so memory stays constant however long the schedule is
+class StreamingGanttRenderer implements GanttSink {
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final Writer out; //This variable stores the (ideally buffered) writer the chart is written to
+    private final boolean merge; //This variable is true if adjacent segments with the same label are merged
+    private final int[] rowLabel, rowStart; //These arrays hold the blocks of the row being filled
+    private int rowSize; //This variable stores the number of blocks in the row being filled
+    private boolean held; //This variable is true while a segment is held back in case the next one extends it
+    private int heldLabel, heldStart, heldFinish; //These variables store the held segment
+    private long blocks; //This variable counts the blocks written so far
+
+    //This constructor creates a renderer that writes rows of the given number of blocks
+    StreamingGanttRenderer(Writer out, int blocksPerRow, boolean merge) {
+        if (blocksPerRow <= 0) {
+            throw new IllegalArgumentException("Blocks per row must be positive: " + blocksPerRow);
+        }
+        this.out = out;
+        this.merge = merge;
+        this.rowLabel = new int[blocksPerRow];
+        this.rowStart = new int[blocksPerRow];
+    }
+
+    @Override
+    public void add(int label, int start, int finish) {
+        //If the segment continues the held one, extend it instead of starting a new block
+        if (merge && held && label == heldLabel && start == heldFinish) {
+            heldFinish = finish;
+            return;
+        }
+        if (held) {
+            emit(heldLabel, heldStart);
+        }
+        held = true;
+        heldLabel = label;
+        heldStart = start;
+        heldFinish = finish;
+    }
+
+    //This method adds a block to the current row, first writing the row if it is full
+    //A full row is only written once another block arrives, so the finish time always lands on the last row
+    private void emit(int label, int start) {
+        if (rowSize == rowLabel.length) {
+            try {
+                writeRow(-1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        rowLabel[rowSize] = label;
+        rowStart[rowSize] = start;
+        rowSize++;
+    }
+
+    //This method writes the buffered row; a non-negative finish time is appended after the last start time
+    private void writeRow(int finish) throws IOException {
+        if (blocks == 0) {
+            out.write(NEWLINE + "Gantt Chart:" + NEWLINE); //Write the Gantt chart header before the first row
+        }
+        for (int i = 0; i < rowSize; i++) {
+            out.write('|');
+            pad(GanttLog.labelFor(rowLabel[i]));
+        }
+        out.write(NEWLINE);
+        for (int i = 0; i < rowSize; i++) {
+            out.write('|');
+            pad(Integer.toString(rowStart[i]));
+        }
+        if (finish >= 0) {
+            out.write("Finish:" + finish);
+        }
+        out.write(NEWLINE);
+        blocks += rowSize;
+        rowSize = 0;
+    }
+
+    //This method writes text left-justified in one block
+    private void pad(String text) throws IOException {
+        out.write(text);
+        for (int i = text.length(); i < TextResultSink.BLOCK_WIDTH; i++) {
+            out.write(' ');
+        }
+    }
+
+    //This method writes the held segment and the last row, then flushes the writer
+    void finish() throws IOException {
+        if (!held) {
+            out.write(NEWLINE + "No Gantt chart to display." + NEWLINE);
+        } else {
+            emit(heldLabel, heldStart);
+            writeRow(heldFinish);
+            held = false;
+        }
+        out.flush();
+    }
+
+    //This method returns the number of blocks written, after merging
+    long blocks() {
+        return blocks;
+    }
+}
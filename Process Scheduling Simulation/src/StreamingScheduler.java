@@ -0,0 +1,179 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.util.Arrays;
+
+//This class schedules an arrival-ordered ProcessSource without loading the whole trace into memory
+//A process only occupies a slot from the moment it arrives until it completes, and finished slots are reused,
+//so memory grows with the number of processes in the system at once rather than with the length of the trace
+//Finished processes are reported to a CompletionListener in the order they finish
+class StreamingScheduler {
+    //This interface receives each process when it completes
+    interface CompletionListener {
+        void completed(int pid, int arrival, int burst, int priority, int cpuInit, int completion);
+
+        //This method receives each context switch and the time it cost
+        default void switched(int overhead) {
+        }
+    }
+
+    //These columns store the fields of the process held in each slot
+    private int[] pid, arrival, burst, priority, remaining, cpuInit;
+    private long[] sequence; //This column stores the admission order of each slot, the last tie-breaker
+    private final IntQueue free = new IntQueue(64); //This queue stores slots that can be reused
+    private int used; //This variable stores the number of slots handed out so far
+    private long admitted; //This variable counts the processes admitted so far
+    private int lastArrival = Integer.MIN_VALUE; //This variable stores the arrival time of the last admitted process
+    private final DispatchCost cost; //This variable stores the time charged for each context switch
+    private long lastDispatched = -1; //This variable stores the admission number of the process dispatched last, since slots are reused
+
+    //This constructor allocates a small slot pool that grows on demand
+    private StreamingScheduler(DispatchCost cost) {
+        this.cost = cost;
+        int capacity = 64;
+        pid = new int[capacity];
+        arrival = new int[capacity];
+        burst = new int[capacity];
+        priority = new int[capacity];
+        remaining = new int[capacity];
+        cpuInit = new int[capacity];
+        sequence = new long[capacity];
+    }
+
+    //This method schedules the source First-Come, First-Served and returns the number of processes scheduled
+    static long fcfs(ProcessSource source, DispatchCost cost, GanttSink gantt, CompletionListener listener) throws IOException {
+        return new StreamingScheduler(cost).run(source, new IntQueue(64), Integer.MAX_VALUE, gantt, listener);
+    }
+
+    //This method schedules the source Shortest Job First (non-preemptive), breaking ties on arrival time and then PID
+    static long sjf(ProcessSource source, DispatchCost cost, GanttSink gantt, CompletionListener listener) throws IOException {
+        StreamingScheduler scheduler = new StreamingScheduler(cost);
+        ReadyHeap ready = new ReadyHeap(64, (a, b) -> {
+            if (scheduler.burst[a] != scheduler.burst[b])
+                return Integer.compare(scheduler.burst[a], scheduler.burst[b]);
+            return scheduler.compareArrival(a, b);
+        });
+        return scheduler.run(source, ready, Integer.MAX_VALUE, gantt, listener);
+    }
+
+    //This method schedules the source by highest priority value (non-preemptive), breaking ties on arrival time and then PID
+    static long priority(ProcessSource source, DispatchCost cost, GanttSink gantt, CompletionListener listener) throws IOException {
+        StreamingScheduler scheduler = new StreamingScheduler(cost);
+        ReadyHeap ready = new ReadyHeap(64, (a, b) -> {
+            if (scheduler.priority[a] != scheduler.priority[b])
+                return Integer.compare(scheduler.priority[b], scheduler.priority[a]);
+            return scheduler.compareArrival(a, b);
+        });
+        return scheduler.run(source, ready, Integer.MAX_VALUE, gantt, listener);
+    }
+
+    //This method schedules the source Round Robin with the given time quantum
+    static long roundRobin(ProcessSource source, int timeQuantum, DispatchCost cost, GanttSink gantt, CompletionListener listener) throws IOException {
+        //If the time quantum is not positive, the schedule would never make progress
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        return new StreamingScheduler(cost).run(source, new IntQueue(64), timeQuantum, gantt, listener);
+    }
+
+    //This method orders two slots by arrival time, then PID, then admission order
+    private int compareArrival(int a, int b) {
+        if (arrival[a] != arrival[b])
+            return Integer.compare(arrival[a], arrival[b]);
+        if (pid[a] != pid[b])
+            return Integer.compare(pid[a], pid[b]);
+        return Long.compare(sequence[a], sequence[b]);
+    }
+
+    //This method runs the schedule, giving each dispatched process at most timeQuantum units before it is re-queued
+    private long run(ProcessSource source, ReadyQueue ready, int timeQuantum, GanttSink gantt, CompletionListener listener) throws IOException {
+        long completed = 0; //This variable counts the processes that have finished
+        boolean pending = source.next(); //This variable is true while the source holds a record that has not been admitted
+        int time = 0;
+        while (pending || !ready.isEmpty()) {
+            //If no process is ready, the CPU is idle until the next arrival
+            if (ready.isEmpty() && time < source.arrival()) {
+                if (gantt != null)
+                    gantt.add(GanttLog.IDLE, time, source.arrival());
+                time = source.arrival();
+            }
+            //Admit every process that has arrived by the current time
+            while (pending && source.arrival() <= time) {
+                ready.add(admit(source));
+                pending = source.next();
+            }
+            int current = ready.poll();
+            int start = time;
+            //Switching to a different process costs time first, and a process that ran before also warms up
+            if (lastDispatched != -1 && lastDispatched != sequence[current]) {
+                int overhead = cost.overhead(cpuInit[current] != -1);
+                listener.switched(overhead);
+                if (overhead > 0) {
+                    start += overhead;
+                    if (gantt != null)
+                        gantt.add(GanttLog.SWITCH, time, start);
+                }
+            }
+            lastDispatched = sequence[current];
+            if (cpuInit[current] == -1) {
+                cpuInit[current] = start;
+            }
+            int execTime = Math.min(timeQuantum, remaining[current]);
+            time = start + execTime;
+            remaining[current] -= execTime;
+            if (gantt != null)
+                gantt.add(pid[current], start, time);
+            //Processes that arrived during this slice are queued ahead of the preempted process
+            while (pending && source.arrival() <= time) {
+                ready.add(admit(source));
+                pending = source.next();
+            }
+            if (remaining[current] > 0) {
+                ready.add(current);
+            } else {
+                listener.completed(pid[current], arrival[current], burst[current], priority[current], cpuInit[current], time);
+                free.addLast(current); //Hand the slot back for the next arrival
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    //This method copies the current record of the source into a free slot and returns the slot
+    private int admit(ProcessSource source) {
+        //A streaming schedule never looks back, so the source must be sorted by arrival time
+        if (source.arrival() < lastArrival) {
+            throw new IllegalArgumentException("Streaming schedules need arrival-ordered input: PID " + source.pid()
+                    + " arrives at " + source.arrival() + " after a process that arrived at " + lastArrival);
+        }
+        lastArrival = source.arrival();
+        int slot;
+        if (!free.isEmpty()) {
+            slot = free.pollFirst();
+        } else {
+            if (used == pid.length) {
+                grow();
+            }
+            slot = used++;
+        }
+        pid[slot] = source.pid();
+        arrival[slot] = source.arrival();
+        burst[slot] = source.burst();
+        priority[slot] = source.priority();
+        remaining[slot] = source.burst();
+        cpuInit[slot] = -1;
+        sequence[slot] = admitted++;
+        return slot;
+    }
+
+    //This method doubles every slot column
+    private void grow() {
+        int capacity = pid.length * 2;
+        pid = Arrays.copyOf(pid, capacity);
+        arrival = Arrays.copyOf(arrival, capacity);
+        burst = Arrays.copyOf(burst, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        cpuInit = Arrays.copyOf(cpuInit, capacity);
+        sequence = Arrays.copyOf(sequence, capacity);
+    }
+}
@@ -0,0 +1,103 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+//This class renders a ScheduleResult in the console layout: a heading, the Gantt chart, one line per process, the averages and percentiles
+//Fixed-width fields are padded by hand instead of through String.format, so each segment and process costs no format parsing
+class TextResultSink implements ResultSink {
+    //This constant is the width of each block in the Gantt chart
+    static final int BLOCK_WIDTH = 6;
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final Writer out; //This variable stores the writer every result is rendered to
+
+    //This constructor creates a sink that writes to the given (ideally buffered) writer
+    TextResultSink(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(ScheduleResult result) throws IOException {
+        out.write(NEWLINE + "--- " + result.title + " ---" + NEWLINE); //Write the scheduling header
+        if (result.gantt != null) {
+            writeGanttChart(result.gantt);
+        }
+        ProcessTable table = result.table;
+        ProcessTable.RunState run = result.run;
+        //For each process in report order, write the process details
+        for (int row : result.reportOrder()) {
+            out.write("PID: ");
+            pad(table.pid[row], 3);
+            out.write(" | CPU Init: ");
+            pad(run.cpuInit[row], 3);
+            out.write(" | Waiting Time: ");
+            pad(run.waiting(table, row), 3);
+            out.write(" | Turnaround Time: ");
+            pad(run.turnaround(table, row), 3);
+            if (result.showPriority) {
+                out.write(" | Priority: ");
+                out.write(Integer.toString(table.priority[row]));
+            }
+            out.write('\n');
+        }
+        out.write(String.format("Average Waiting Time: %.2f\n", result.avgWaiting)); //Write the average waiting time
+        out.write(String.format("Average Turnaround Time: %.2f\n", result.avgTurnaround)); //Write the average turnaround time
+        writePercentiles(out, result.stats); //Write the tail latencies, fairness and throughput
+        //If switching costs time, write how much of the schedule it took
+        if (!run.cost.isFree()) {
+            out.write(String.format("Context Switches: %d | Switching Overhead: %d (%.2f%%) | CPU Utilization: %.2f%%\n",
+                    result.contextSwitches, result.overheadTime, 100 * result.overheadShare(), 100 * result.utilization()));
+        }
+    }
+
+    //This method writes the percentiles of a schedule's statistics on two lines
+    static void writePercentiles(Writer out, ScheduleStats stats) throws IOException {
+        out.write(String.format(Locale.ROOT, "Waiting p50/p95/p99/max: %d/%d/%d/%d | Turnaround p50/p95/p99: %d/%d/%d | Response p50/p95/p99: %d/%d/%d\n",
+                stats.waiting.percentile(50), stats.waiting.percentile(95), stats.waiting.percentile(99), stats.waiting.max(),
+                stats.turnaround.percentile(50), stats.turnaround.percentile(95), stats.turnaround.percentile(99),
+                stats.response.percentile(50), stats.response.percentile(95), stats.response.percentile(99)));
+        out.write(String.format(Locale.ROOT, "Slowdown p50/p95/p99: %.2f/%.2f/%.2f | Jain Fairness: %.4f | Throughput: %.4f\n",
+                stats.slowdownPercentile(50), stats.slowdownPercentile(95), stats.slowdownPercentile(99), stats.fairness(), stats.throughput()));
+    }
+
+    //This method writes the two-line Gantt chart: segment labels on top and start times below
+    void writeGanttChart(GanttLog gantt) throws IOException {
+        //If the Gantt chart is empty
+        if (gantt.isEmpty()) {
+            out.write(NEWLINE + "No Gantt chart to display." + NEWLINE);
+            return;
+        }
+        out.write(NEWLINE + "Gantt Chart:" + NEWLINE); //Write the Gantt chart header
+        //Write the top line: each label (built only now) within its block
+        for (int i = 0; i < gantt.size(); i++) {
+            out.write('|');
+            pad(gantt.label(i), BLOCK_WIDTH);
+        }
+        out.write(NEWLINE);
+        //Write the bottom line: each start time within its block, then the final finish time
+        for (int i = 0; i < gantt.size(); i++) {
+            out.write('|');
+            pad(gantt.start(i), BLOCK_WIDTH);
+        }
+        out.write("Finish:" + gantt.finish(gantt.size() - 1) + NEWLINE);
+    }
+
+    //This method writes a value left-justified in a field of the given width
+    private void pad(int value, int width) throws IOException {
+        pad(Integer.toString(value), width);
+    }
+
+    //This method writes text left-justified in a field of the given width
+    private void pad(String text, int width) throws IOException {
+        out.write(text);
+        for (int i = text.length(); i < width; i++) {
+            out.write(' ');
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+}
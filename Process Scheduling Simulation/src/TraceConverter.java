@@ -0,0 +1,34 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+//This class is a command-line tool that converts a text trace (the processes.txt layout) to the binary columnar format
+//Usage: java TraceConverter <input.txt> <output.bin>
+public class TraceConverter {
+    public static void main(String[] args) {
+        //If the input and output files were not both given
+        if (args.length != 2) {
+            System.out.println("Usage: java TraceConverter <input.txt> <output.bin>");
+            System.exit(2);
+        }
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        try {
+            long startNanos = System.nanoTime();
+            int count = BinaryTrace.convert(input, output); //Convert the trace in two streaming passes
+            long elapsed = (System.nanoTime() - startNanos) / 1_000_000;
+            try (BinaryTrace trace = new BinaryTrace(output)) { //Reopen the output to report its header
+                System.out.println("Converted " + count + " processes (arrival " + trace.minArrival + " to " + trace.maxArrival
+                        + ") from " + input + " to " + output + " in " + elapsed + " ms");
+            }
+        } catch (NoSuchFileException e) {
+            System.out.println("Error: File " + e.getFile() + " not found.");
+            System.exit(1);
+        } catch (IOException e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
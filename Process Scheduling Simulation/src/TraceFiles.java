@@ -0,0 +1,85 @@
+//Importing the necessary libraries
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//This class opens a process trace in whichever format it is stored, and writes traces and page reference strings as text
+//Binary traces are recognized by their magic number; anything else is read as the whitespace text layout
+//Text is written a record at a time with the digits formatted straight into a reused byte array, so no String is created per record
+final class TraceFiles {
+    //This constant is the header line of a text trace
+    static final String TEXT_HEADER = "PID Arrival_Time Burst_Time Priority Memory\n";
+    //This constant is the number of page references written on each line of a reference file
+    static final int REFERENCES_PER_LINE = 32;
+
+    private TraceFiles() {
+    }
+
+    //This method reads a whole trace into a ProcessTable
+    static ProcessTable load(Path path) throws IOException {
+        return BinaryTrace.isBinary(path) ? BinaryTrace.load(path) : TraceReader.load(path);
+    }
+
+    //This method opens a trace as a stream of records
+    static ProcessSource open(Path path) throws IOException {
+        return BinaryTrace.isBinary(path) ? new BinaryTrace(path) : new TraceReader(path);
+    }
+
+    //This method writes every record of a source as a text trace (the processes.txt layout with a memory column) and returns the count
+    static long writeText(ProcessSource source, Path path) throws IOException {
+        long count = 0;
+        byte[] line = new byte[5 * 12]; //Five ints of at most 11 characters, each followed by a separator
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            out.write(TEXT_HEADER.getBytes(StandardCharsets.US_ASCII));
+            while (source.next()) {
+                int length = appendInt(line, 0, source.pid());
+                line[length++] = ' ';
+                length = appendInt(line, length, source.arrival());
+                line[length++] = ' ';
+                length = appendInt(line, length, source.burst());
+                line[length++] = ' ';
+                length = appendInt(line, length, source.priority());
+                line[length++] = ' ';
+                length = appendInt(line, length, source.memory());
+                line[length++] = '\n';
+                out.write(line, 0, length);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //This method writes the next count references of a generator as a page reference file that PageReferences can read
+    static void writeReferences(ReferenceGenerator references, long count, Path path) throws IOException {
+        byte[] number = new byte[12];
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            for (long i = 0; i < count; i++) {
+                int length = appendInt(number, 0, references.next());
+                number[length++] = (i + 1) % REFERENCES_PER_LINE == 0 || i + 1 == count ? (byte) '\n' : (byte) ' ';
+                out.write(number, 0, length);
+            }
+        }
+    }
+
+    //This method writes the decimal digits of a value into the buffer at the given position and returns the position after them
+    private static int appendInt(byte[] buffer, int position, int value) {
+        long magnitude = value;
+        if (magnitude < 0) {
+            buffer[position++] = '-';
+            magnitude = -magnitude;
+        }
+        int end = position;
+        for (long rest = magnitude; rest >= 10; rest /= 10) {
+            end++; //Count the digits after the first one
+        }
+        int digit = end;
+        do {
+            buffer[digit--] = (byte) ('0' + magnitude % 10);
+            magnitude /= 10;
+        } while (magnitude > 0);
+        return end + 1;
+    }
+}
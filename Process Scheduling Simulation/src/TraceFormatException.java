@@ -0,0 +1,20 @@
+//Importing the necessary libraries
+import java.io.IOException;
+
+//This exception reports a malformed line in a process trace together with its line number
+class TraceFormatException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final long line; //This variable stores the 1-based line number of the malformed line
+
+    //This constructor creates the exception for the given file, line number and problem
+    TraceFormatException(String file, long line, String problem) {
+        super(file + " line " + line + ": " + problem);
+        this.line = line;
+    }
+
+    //This method returns the 1-based line number of the malformed line
+    long line() {
+        return line;
+    }
+}
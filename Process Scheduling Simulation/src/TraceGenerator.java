@@ -0,0 +1,49 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+//This class is a command-line tool that writes a generated workload to a file without holding it in memory
+//Usage: java TraceGenerator <output> --generate N [--binary] [workload options]   (see WorkloadGenerator.fromArgs)
+//       java TraceGenerator <output> --references N [reference options]          (see ReferenceGenerator.fromArgs)
+//The same seed and options always produce the same file
+public class TraceGenerator {
+    public static void main(String[] args) {
+        //If no output file or nothing to generate was given
+        String references = args.length == 0 ? null : OperatingSystemSchedulesProcesses.optionValue(args, "--references");
+        if (args.length == 0 || args[0].startsWith("--") || (references == null && !WorkloadGenerator.isRequested(args))) {
+            System.out.println("Usage: java TraceGenerator <output> --generate N [--binary] [workload options]");
+            System.out.println("       java TraceGenerator <output> --references N [reference options]");
+            System.exit(2);
+        }
+        Path output = Paths.get(args[0]);
+        try {
+            long startNanos = System.nanoTime();
+            String written;
+            if (references != null) {
+                long count = Long.parseLong(references.trim());
+                //If the count is negative, there is nothing sensible to write
+                if (count < 0) {
+                    throw new IllegalArgumentException("Reference count must not be negative: " + count);
+                }
+                ReferenceGenerator generator = ReferenceGenerator.fromArgs(args);
+                TraceFiles.writeReferences(generator, count, output);
+                written = count + " " + generator.model.name().toLowerCase(Locale.ROOT).replace('_', '-') + " page references over " + generator.pages + " pages";
+            } else {
+                WorkloadGenerator generator = WorkloadGenerator.fromArgs(args);
+                if (OperatingSystemSchedulesProcesses.hasFlag(args, "--binary")) {
+                    BinaryTrace.write(generator, generator.count, output);
+                } else {
+                    TraceFiles.writeText(generator, output);
+                }
+                written = generator.describe();
+            }
+            long elapsed = (System.nanoTime() - startNanos) / 1_000_000;
+            System.out.println("Wrote " + written + " to " + output + " in " + elapsed + " ms");
+        } catch (IllegalArgumentException | IOException e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
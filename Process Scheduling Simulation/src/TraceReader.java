@@ -0,0 +1,200 @@
+//Importing the necessary libraries
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//This class reads a whitespace-separated process trace (the processes.txt layout) through a memory-mapped file
+//Integers are parsed directly from the mapped bytes, so no String is built per line or per column
+//The first line is a header and is skipped; each later non-blank line holds PID, arrival, burst, priority and an optional memory requirement
+//Large files are mapped in windows, so a trace of any size can be streamed record by record
+class TraceReader implements ProcessSource {
+    //This constant is the default memory requirement used when a line has no fifth column
+    static final int DEFAULT_MEMORY = 100;
+    //This constant is the largest number of bytes mapped at once
+    private static final long WINDOW = 1L << 26;
+
+    private final String name; //This variable stores the file name used in error messages
+    private final FileChannel channel; //This variable stores the open channel of the trace file
+    private final long fileSize; //This variable stores the size of the file in bytes
+    private MappedByteBuffer window; //This buffer maps the part of the file currently being parsed
+    private long windowStart; //This variable stores the file offset of the first mapped byte
+    private long windowEnd; //This variable stores the file offset just after the last mapped byte
+    private long pos; //This variable stores the file offset of the next byte to parse
+    private long lineStart; //This variable stores the file offset where the current line starts
+    private long line; //This variable stores the 1-based number of the current line
+    private int pid, arrival, burst, priority, memory; //These variables store the fields of the current record
+
+    //This constructor opens the trace file; the header line is skipped on the first call to next()
+    TraceReader(Path path) throws IOException {
+        this.name = String.valueOf(path.getFileName());
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+    }
+
+    //This method reads a whole trace into a ProcessTable, keeping the file order
+    static ProcessTable load(Path path) throws IOException {
+        try (TraceReader reader = new TraceReader(path)) {
+            return ProcessTable.from(reader);
+        }
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        //Skip the header line the first time through
+        if (line == 0) {
+            lineStart = pos;
+            line = 1;
+            while (pos < fileSize && byteAt(pos) != '\n') {
+                pos++;
+            }
+            pos++;
+        }
+        //Loop until a non-blank line is parsed or the file ends
+        while (pos < fileSize) {
+            lineStart = pos;
+            line++;
+            int columns = 0; //This variable counts the integer columns parsed on this line
+            int c = skipBlanks();
+            while (c != '\n') {
+                if (columns == 5) {
+                    //Columns after the memory requirement are ignored, as readProcesses did
+                    while (c != '\n') {
+                        c = advance();
+                    }
+                    break;
+                }
+                int value = parseInt(c);
+                switch (columns++) {
+                    case 0: pid = value; break;
+                    case 1: arrival = value; break;
+                    case 2: burst = value; break;
+                    case 3: priority = value; break;
+                    default: memory = value; break;
+                }
+                c = skipBlanks();
+            }
+            pos++; //Step past the newline
+            if (columns == 0) {
+                continue; //Blank lines are allowed
+            }
+            if (columns < 4) {
+                throw new TraceFormatException(name, line, "expected at least 4 columns (PID Arrival_Time Burst_Time Priority) but found " + columns);
+            }
+            //Negative times would reach the schedulers and their statistics, so they are reported with the line that holds them
+            if (arrival < 0) {
+                throw new TraceFormatException(name, line, "arrival must not be negative");
+            }
+            if (burst < 0) {
+                throw new TraceFormatException(name, line, "burst must not be negative");
+            }
+            if (columns == 4) {
+                memory = DEFAULT_MEMORY;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    //This method parses one integer starting at the current byte and leaves pos on the byte after it
+    private int parseInt(int c) throws IOException {
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            c = advance();
+        }
+        long value = 0;
+        int digits = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new TraceFormatException(name, line, "number out of range");
+            }
+            digits++;
+            c = advance();
+        }
+        if (digits == 0 || !(isBlank(c) || c == '\n')) {
+            throw new TraceFormatException(name, line, "expected an integer at column " + (pos - lineStart + 1));
+        }
+        if (!negative && value > Integer.MAX_VALUE) {
+            throw new TraceFormatException(name, line, "number out of range");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    //This method skips spaces and tabs and returns the first other byte ('\n' at the end of the file)
+    private int skipBlanks() throws IOException {
+        int c = current();
+        while (isBlank(c)) {
+            c = advance();
+        }
+        return c;
+    }
+
+    //This method moves to the next byte and returns it
+    private int advance() throws IOException {
+        pos++;
+        return current();
+    }
+
+    //This method returns the byte at pos, treating the end of the file as a final newline
+    private int current() throws IOException {
+        return pos < fileSize ? byteAt(pos) : '\n';
+    }
+
+    //This method returns true for the whitespace characters that separate columns
+    private static boolean isBlank(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+
+    //This method returns the byte at the given file offset, mapping a new window starting at the current line if needed
+    private int byteAt(long offset) throws IOException {
+        if (offset >= windowEnd || offset < windowStart) {
+            long size = Math.min(WINDOW, fileSize - lineStart);
+            if (offset >= lineStart + size) {
+                throw new TraceFormatException(name, line, "line is longer than " + WINDOW + " bytes");
+            }
+            window = channel.map(FileChannel.MapMode.READ_ONLY, lineStart, size);
+            windowStart = lineStart;
+            windowEnd = lineStart + size;
+        }
+        return window.get((int) (offset - windowStart)) & 0xFF;
+    }
+
+    @Override
+    public int pid() {
+        return pid;
+    }
+
+    @Override
+    public int arrival() {
+        return arrival;
+    }
+
+    @Override
+    public int burst() {
+        return burst;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public int memory() {
+        return memory;
+    }
+
+    //This method returns the line number of the current record
+    long line() {
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
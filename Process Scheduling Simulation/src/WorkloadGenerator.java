@@ -0,0 +1,298 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+//This class generates a synthetic process workload one record at a time from a seed, so the same options always give the same trace
+//Arrivals are a Poisson process, or bursty: batches of geometric size whose members arrive close together, separated by long gaps,
+//with the same mean arrival rate; burst times are exponential or heavy-tailed (Pareto or lognormal) and capped at a maximum;
+//priorities and memory requirements are drawn from weighted mixes
+//Nothing is kept per process, so a generator can feed up to Integer.MAX_VALUE processes to a simulator or a file in constant memory,
+//and because arrival times never decrease the records are already in the order the streaming schedulers need
+final class WorkloadGenerator implements ProcessSource {
+    //This enum lists the arrival processes
+    enum Arrivals { POISSON, BURSTY }
+
+    //This enum lists the burst time distributions
+    enum Bursts { EXPONENTIAL, PARETO, LOGNORMAL }
+
+    //These constants are the defaults of the command line options; a mean gap above the mean burst keeps one CPU at about 80% load
+    static final long DEFAULT_SEED = 42;
+    static final double DEFAULT_MEAN_GAP = 10, DEFAULT_BURST_MEAN = 8, DEFAULT_BURSTINESS = 8;
+    static final double DEFAULT_PARETO_SHAPE = 1.5, DEFAULT_LOGNORMAL_SIGMA = 1;
+    static final int DEFAULT_BURST_MAX = 10_000;
+    static final String DEFAULT_PRIORITY_MIX = "0:40,1:30,2:15,3:10,4:5";
+    static final String DEFAULT_MEMORY_MIX = "50:30,100:40,200:20,800:10";
+
+    //This class is a weighted choice between a few values, such as "0:40,1:30,2:30" (value:weight pairs)
+    static final class Mix {
+        private final int[] values; //This array stores the values in the order they were given
+        private final double[] cumulative; //This array stores the running total of the weights, scaled so the last one is 1
+
+        Mix(int[] values, double[] weights) {
+            this.values = values.clone();
+            this.cumulative = new double[weights.length];
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum / total;
+            }
+        }
+
+        //This method parses a comma-separated list of value:weight pairs; a value without a weight has weight 1
+        static Mix parse(String spec, String option) {
+            String[] parts = spec.split(",");
+            int[] values = new int[parts.length];
+            double[] weights = new double[parts.length];
+            int count = 0;
+            for (String part : parts) {
+                if (part.isBlank())
+                    continue;
+                String[] pair = part.trim().split(":");
+                values[count] = Integer.parseInt(pair[0].trim());
+                weights[count] = pair.length > 1 ? Double.parseDouble(pair[1].trim()) : 1;
+                //If a weight is not positive (or not a number), the value could never be drawn
+                if (pair.length > 2 || !(weights[count] > 0)) {
+                    throw new IllegalArgumentException("Invalid " + option + " entry: " + part.trim() + " (expected value:weight with a positive weight)");
+                }
+                count++;
+            }
+            //If no pair was given, there is nothing to draw
+            if (count == 0) {
+                throw new IllegalArgumentException(option + " needs at least one value:weight pair");
+            }
+            return new Mix(Arrays.copyOf(values, count), Arrays.copyOf(weights, count));
+        }
+
+        //This method draws one value
+        int sample(SplittableRandom rand) {
+            double u = rand.nextDouble();
+            for (int i = 0; i < cumulative.length - 1; i++) {
+                if (u < cumulative[i])
+                    return values[i];
+            }
+            return values[values.length - 1];
+        }
+    }
+
+    private final SplittableRandom rand; //This variable stores the random number generator
+    final long seed; //This variable stores the seed the generator was created with
+    final int count; //This variable stores the number of processes to generate
+    private final Arrivals arrivals;
+    private final double meanGap; //This variable stores the mean time between arrivals
+    private final double burstiness; //This variable stores the mean batch size of bursty arrivals
+    private final Bursts bursts;
+    private final double burstMean; //This variable stores the mean burst time before the cap
+    private final double burstShape; //This variable stores the Pareto shape or the lognormal sigma
+    private final int burstMax; //This variable stores the largest burst time generated
+    private final Mix priorities, memories;
+
+    private double clock; //This variable stores the exact arrival time of the next process
+    private int remainingInBatch; //This variable counts the processes left in the current bursty batch
+    private int generated; //This variable counts the processes generated so far
+    private int arrival, burst, priority, memory; //These variables store the fields of the current record
+
+    //This constructor creates a generator; the burst shape is the Pareto shape (above 1) or the lognormal sigma and is unused for exponential bursts
+    WorkloadGenerator(long seed, int count, Arrivals arrivals, double meanGap, double burstiness, Bursts bursts, double burstMean,
+                      double burstShape, int burstMax, Mix priorities, Mix memories) {
+        //If the count is negative, there is nothing sensible to generate
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count must not be negative: " + count);
+        }
+        //If the times are not positive, arrivals and bursts would not move forward
+        if (!(meanGap > 0) || !(burstMean >= 1) || burstMax < 1) {
+            throw new IllegalArgumentException("Mean gap must be positive and the burst mean and maximum at least 1: "
+                    + meanGap + ", " + burstMean + ", " + burstMax);
+        }
+        //If the batches are smaller than one process, bursty arrivals are not defined
+        if (arrivals == Arrivals.BURSTY && !(burstiness >= 1)) {
+            throw new IllegalArgumentException("Burstiness must be at least 1: " + burstiness);
+        }
+        //If the Pareto shape is 1 or less, the distribution has no mean to match
+        if ((bursts == Bursts.PARETO && !(burstShape > 1)) || (bursts == Bursts.LOGNORMAL && !(burstShape > 0))) {
+            throw new IllegalArgumentException("Burst shape must be above 1 for Pareto and above 0 for lognormal: " + burstShape);
+        }
+        //If the expected last arrival would not fit in an int (with room for the randomness), the trace cannot be represented
+        if ((double) count * meanGap > Integer.MAX_VALUE / 2.0) {
+            throw new IllegalArgumentException(count + " processes with a mean gap of " + meanGap
+                    + " would arrive later than an int time can hold; use a smaller --mean-gap");
+        }
+        this.rand = new SplittableRandom(seed);
+        this.seed = seed;
+        this.count = count;
+        this.arrivals = arrivals;
+        this.meanGap = meanGap;
+        this.burstiness = burstiness;
+        this.bursts = bursts;
+        this.burstMean = burstMean;
+        this.burstShape = burstShape;
+        this.burstMax = burstMax;
+        this.priorities = priorities;
+        this.memories = memories;
+        this.remainingInBatch = arrivals == Arrivals.BURSTY ? batchSize() : 0;
+    }
+
+    //This method reads a generator from the command line options:
+    //--generate N  --seed S  --arrivals poisson|bursty  --mean-gap G  --burstiness B  --bursts exponential|pareto|lognormal
+    //--burst-mean M  --burst-shape A  --burst-max X  --priority-mix LIST  --memory-mix LIST
+    static WorkloadGenerator fromArgs(String[] args) {
+        String countOption = OperatingSystemSchedulesProcesses.optionValue(args, "--generate");
+        String arrivalOption = OperatingSystemSchedulesProcesses.optionValue(args, "--arrivals");
+        String burstOption = OperatingSystemSchedulesProcesses.optionValue(args, "--bursts");
+        String shapeOption = OperatingSystemSchedulesProcesses.optionValue(args, "--burst-shape");
+        String priorityOption = OperatingSystemSchedulesProcesses.optionValue(args, "--priority-mix");
+        String memoryOption = OperatingSystemSchedulesProcesses.optionValue(args, "--memory-mix");
+        Arrivals arrivals = arrivalOption == null ? Arrivals.POISSON : parseArrivals(arrivalOption);
+        Bursts bursts = burstOption == null ? Bursts.PARETO : parseBursts(burstOption);
+        double shape = shapeOption != null ? Double.parseDouble(shapeOption)
+                : bursts == Bursts.LOGNORMAL ? DEFAULT_LOGNORMAL_SIGMA : DEFAULT_PARETO_SHAPE;
+        return new WorkloadGenerator(seed(args), countOption == null ? 0 : Integer.parseInt(countOption.trim()), arrivals,
+                doubleOption(args, "--mean-gap", DEFAULT_MEAN_GAP), doubleOption(args, "--burstiness", DEFAULT_BURSTINESS), bursts,
+                doubleOption(args, "--burst-mean", DEFAULT_BURST_MEAN), shape,
+                (int) doubleOption(args, "--burst-max", DEFAULT_BURST_MAX),
+                Mix.parse(priorityOption == null ? DEFAULT_PRIORITY_MIX : priorityOption, "--priority-mix"),
+                Mix.parse(memoryOption == null ? DEFAULT_MEMORY_MIX : memoryOption, "--memory-mix"));
+    }
+
+    //This method returns true if the command line asks for a generated workload instead of a trace file
+    static boolean isRequested(String[] args) {
+        return OperatingSystemSchedulesProcesses.optionValue(args, "--generate") != null;
+    }
+
+    //This method reads the seed from the command line ("--seed S"), or returns the default seed
+    static long seed(String[] args) {
+        String value = OperatingSystemSchedulesProcesses.optionValue(args, "--seed");
+        return value == null ? DEFAULT_SEED : Long.parseLong(value.trim());
+    }
+
+    //This method reads a numeric option, or returns the default if it is absent
+    private static double doubleOption(String[] args, String option, double fallback) {
+        String value = OperatingSystemSchedulesProcesses.optionValue(args, option);
+        return value == null ? fallback : Double.parseDouble(value.trim());
+    }
+
+    //This method returns the arrival process with the given name
+    static Arrivals parseArrivals(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "poisson":
+                return Arrivals.POISSON;
+            case "bursty":
+                return Arrivals.BURSTY;
+            default:
+                throw new IllegalArgumentException("Unknown arrival process: " + name + " (expected poisson or bursty)");
+        }
+    }
+
+    //This method returns the burst time distribution with the given name
+    static Bursts parseBursts(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "exponential":
+                return Bursts.EXPONENTIAL;
+            case "pareto":
+                return Bursts.PARETO;
+            case "lognormal":
+                return Bursts.LOGNORMAL;
+            default:
+                throw new IllegalArgumentException("Unknown burst distribution: " + name + " (expected exponential, pareto or lognormal)");
+        }
+    }
+
+    //This method returns a short description of the generator settings for report headers
+    String describe() {
+        return count + " processes, seed " + seed + ", " + arrivals.name().toLowerCase(Locale.ROOT) + " arrivals (mean gap " + meanGap
+                + (arrivals == Arrivals.BURSTY ? ", burstiness " + burstiness : "") + "), " + bursts.name().toLowerCase(Locale.ROOT)
+                + " bursts (mean " + burstMean + (bursts == Bursts.EXPONENTIAL ? "" : ", shape " + burstShape) + ", max " + burstMax + ")";
+    }
+
+    //This method draws the size of a bursty batch: geometric with mean burstiness, at least 1
+    private int batchSize() {
+        if (burstiness == 1)
+            return 1;
+        double size = 1 + Math.floor(Math.log(1 - rand.nextDouble()) / Math.log(1 - 1 / burstiness));
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    //This method draws the gap before the next arrival
+    //In a bursty batch the members are meanGap / burstiness apart, and the gap after a batch is stretched so that
+    //a batch of mean size burstiness still takes burstiness * meanGap on average: the long-run rate matches the Poisson process
+    private double nextGap() {
+        if (arrivals == Arrivals.POISSON) {
+            return meanGap * rand.nextExponential();
+        }
+        if (--remainingInBatch > 0) {
+            return meanGap / burstiness * rand.nextExponential();
+        }
+        remainingInBatch = batchSize();
+        double offGap = burstiness * meanGap - (burstiness - 1) * meanGap / burstiness;
+        return offGap * rand.nextExponential();
+    }
+
+    //This method draws a burst time, rounded to a whole time unit between 1 and the maximum
+    private int nextBurst() {
+        double value;
+        switch (bursts) {
+            case PARETO: {
+                //The scale is chosen so the uncapped mean is burstMean
+                double scale = burstMean * (burstShape - 1) / burstShape;
+                value = scale / Math.pow(1 - rand.nextDouble(), 1 / burstShape);
+                break;
+            }
+            case LOGNORMAL: {
+                double mu = Math.log(burstMean) - burstShape * burstShape / 2;
+                value = Math.exp(mu + burstShape * rand.nextGaussian());
+                break;
+            }
+            default:
+                value = burstMean * rand.nextExponential();
+                break;
+        }
+        return (int) Math.max(1, Math.min(burstMax, Math.round(value)));
+    }
+
+    @Override
+    public boolean next() {
+        if (generated == count) {
+            return false;
+        }
+        //If the clock ran past the largest int time (very unlikely given the constructor check), the trace cannot continue
+        if (clock > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Generated arrival times passed " + Integer.MAX_VALUE + " after " + generated + " processes");
+        }
+        generated++;
+        arrival = (int) clock;
+        burst = nextBurst();
+        priority = priorities.sample(rand);
+        memory = memories.sample(rand);
+        clock += nextGap();
+        return true;
+    }
+
+    @Override
+    public int pid() {
+        return generated;
+    }
+
+    @Override
+    public int arrival() {
+        return arrival;
+    }
+
+    @Override
+    public int burst() {
+        return burst;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public int memory() {
+        return memory;
+    }
+}
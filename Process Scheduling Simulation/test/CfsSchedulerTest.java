@@ -0,0 +1,36 @@
+//Importing the necessary libraries
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//This class checks that CFS schedules are consistent with and without a dispatch cost, and that equal weights share the CPU evenly
+class CfsSchedulerTest {
+    @Test
+    void equalWeightsAlternateByLatencyShare() {
+        ProcessTable table = new ProcessTable(2);
+        table.add(1, 0, 20, 0, 10);
+        table.add(2, 0, 20, 0, 10);
+        ProcessTable.RunState run = table.newRun();
+        GanttLog gantt = new GanttLog(4);
+        ScheduleResult result = CfsScheduler.cfs(table, run, gantt, 24, 3);
+        //Each row gets half of the target latency, and then the rest of its burst once the other has caught up
+        assertEquals(List.of("P1 0-12", "P2 12-24", "P1 24-32", "P2 32-40"), PreemptiveSchedulerTest.segments(gantt));
+        ScheduleAssertions.assertConsistent(table, run, gantt, result, "CFS");
+    }
+
+    @Test
+    void everyScheduleIsConsistent() {
+        Random rand = new Random(19);
+        for (int trial = 0; trial < 1000; trial++) {
+            ProcessTable table = PreemptiveSchedulerTest.randomTable(rand, 1 + rand.nextInt(50));
+            DispatchCost cost = rand.nextBoolean() ? DispatchCost.NONE : new DispatchCost(rand.nextInt(4), rand.nextInt(4));
+            ProcessTable.RunState run = table.newRun(cost);
+            GanttLog gantt = new GanttLog(table.size);
+            ScheduleResult result = CfsScheduler.cfs(table, run, gantt, 1 + rand.nextInt(30), 1 + rand.nextInt(5));
+            ScheduleAssertions.assertConsistent(table, run, gantt, result, result.title + ", trial " + trial);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//This class checks the indexed free-list allocator against a naive one that scans a sorted map of holes for every request
+class FreeListAllocatorTest {
+    //This class is the naive allocator: holes are kept by address and every fit is a linear scan
+    static final class NaiveAllocator {
+        final TreeMap<Integer, Integer> holes = new TreeMap<>(); //This map stores the length of each hole by its address
+        private final Map<Integer, Integer> blocks = new HashMap<>(); //This map stores the length of each allocated block by its address
+        private final FreeListAllocator.Fit fit;
+        private int rover; //This variable stores the address after the last allocation, where next fit starts looking
+
+        NaiveAllocator(FreeListAllocator.Fit fit, int memorySize) {
+            this.fit = fit;
+            holes.put(0, memorySize);
+        }
+
+        //This method places a request and returns its address, or -1 if no hole is large enough
+        int allocate(int request) {
+            Integer pick = null;
+            switch (fit) {
+                case FIRST:
+                    pick = firstFrom(holes, request);
+                    break;
+                case BEST:
+                    for (Map.Entry<Integer, Integer> hole : holes.entrySet())
+                        if (hole.getValue() >= request && (pick == null || hole.getValue() < holes.get(pick)))
+                            pick = hole.getKey();
+                    break;
+                case WORST:
+                    //Among equally large holes the highest address wins
+                    for (Map.Entry<Integer, Integer> hole : holes.entrySet())
+                        if (hole.getValue() >= request && (pick == null || hole.getValue() >= holes.get(pick)))
+                            pick = hole.getKey();
+                    break;
+                case NEXT:
+                    pick = firstFrom(holes.tailMap(rover, true), request);
+                    if (pick == null)
+                        pick = firstFrom(holes, request);
+                    break;
+            }
+            if (pick == null)
+                return -1;
+            int length = holes.remove(pick);
+            if (length > request)
+                holes.put(pick + request, length - request);
+            blocks.put(pick, request);
+            rover = pick + request;
+            return pick;
+        }
+
+        //This method returns the lowest address of a hole in the map that can hold the request, or null
+        private static Integer firstFrom(Map<Integer, Integer> holes, int request) {
+            for (Map.Entry<Integer, Integer> hole : holes.entrySet())
+                if (hole.getValue() >= request)
+                    return hole.getKey();
+            return null;
+        }
+
+        //This method frees a block and merges it with the holes on either side
+        void free(int address) {
+            int length = blocks.remove(address);
+            Map.Entry<Integer, Integer> below = holes.lowerEntry(address);
+            if (below != null && below.getKey() + below.getValue() == address) {
+                holes.remove(below.getKey());
+                address = below.getKey();
+                length += below.getValue();
+            }
+            Map.Entry<Integer, Integer> above = holes.higherEntry(address);
+            if (above != null && address + length == above.getKey()) {
+                holes.remove(above.getKey());
+                length += above.getValue();
+            }
+            holes.put(address, length);
+        }
+    }
+
+    @Test
+    void everyFitMatchesTheNaiveAllocator() {
+        Random rand = new Random(3);
+        for (int trial = 0; trial < 100; trial++) {
+            for (FreeListAllocator.Fit fit : FreeListAllocator.Fit.values()) {
+                int memorySize = 100 + rand.nextInt(5000);
+                FreeListAllocator allocator = new FreeListAllocator(fit, memorySize);
+                NaiveAllocator naive = new NaiveAllocator(fit, memorySize);
+                List<Integer> live = new ArrayList<>();
+                for (int step = 0; step < 2000; step++) {
+                    String context = fit + " fit, trial " + trial + ", step " + step;
+                    if (!live.isEmpty() && rand.nextInt(3) == 0) {
+                        int address = live.remove(rand.nextInt(live.size()));
+                        allocator.free(address);
+                        naive.free(address);
+                    } else {
+                        int request = 1 + rand.nextInt(rand.nextBoolean() ? 20 : 300);
+                        int address = allocator.allocate(request);
+                        assertEquals(naive.allocate(request), address, context);
+                        if (address >= 0)
+                            live.add(address);
+                    }
+                    //The holes come back as address, length pairs in address order
+                    int[] holes = allocator.holes();
+                    assertEquals(2 * naive.holes.size(), holes.length, context);
+                    int k = 0;
+                    long free = 0, largest = 0;
+                    for (Map.Entry<Integer, Integer> hole : naive.holes.entrySet()) {
+                        assertEquals(hole.getKey(), holes[k++], context);
+                        assertEquals(hole.getValue(), holes[k++], context);
+                        free += hole.getValue();
+                        largest = Math.max(largest, hole.getValue());
+                    }
+                    assertEquals(free, allocator.freeBytes(), context);
+                    assertEquals(largest, allocator.largestFree(), context);
+                }
+            }
+        }
+    }
+}
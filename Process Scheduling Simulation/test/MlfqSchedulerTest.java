@@ -0,0 +1,179 @@
+//Importing the necessary libraries
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//This class checks the MLFQ scheduler against a naive version that keeps one deque per level and steps one time unit at a time
+class MlfqSchedulerTest {
+    @Test
+    void arrivalDuringASwitchTakesOverTheSwitch() {
+        ProcessTable table = new ProcessTable(3);
+        table.add(1, 0, 20, 1, 10);
+        table.add(2, 0, 20, 2, 10);
+        table.add(3, 12, 1, 3, 10);
+        ProcessTable.RunState run = table.newRun(new DispatchCost(3, 0));
+        GanttLog gantt = new GanttLog(16);
+        ScheduleResult result = MlfqScheduler.mlfq(table, run, gantt, new int[] {4, 8, 16}, 0);
+        //P1 is switched back in from the second level at time 11, but P3 arrives at the top level during the switch
+        assertEquals(List.of("P1 0-4", "CS 4-7", "P2 7-11", "CS 11-14", "P3 14-15", "CS 15-18", "P1 18-26", "CS 26-29",
+                "P2 29-37", "CS 37-40", "P1 40-48", "CS 48-51", "P2 51-59"), PreemptiveSchedulerTest.segments(gantt));
+        ScheduleAssertions.assertConsistent(table, run, gantt, result, "MLFQ");
+    }
+
+    @Test
+    void boostDuringASwitchGivesTheDispatchedRowATopLevelQuantum() {
+        ProcessTable table = new ProcessTable(2);
+        table.add(1, 0, 30, 1, 10);
+        table.add(2, 0, 30, 2, 10);
+        ProcessTable.RunState run = table.newRun(new DispatchCost(3, 0));
+        GanttLog gantt = new GanttLog(64);
+        ScheduleResult result = MlfqScheduler.mlfq(table, run, gantt, new int[] {1, 8}, 4);
+        //P1 is switched back in from the second level at time 5 and the boost at time 8 ends the switch, so P1 runs one top-level quantum
+        assertEquals(List.of("P1 0-1", "CS 1-4", "P2 4-5", "CS 5-8", "P1 8-9", "CS 9-12", "P2 12-13"),
+                PreemptiveSchedulerTest.segments(gantt).subList(0, 7));
+        ScheduleAssertions.assertConsistent(table, run, gantt, result, "MLFQ with boosts");
+    }
+
+    @Test
+    void everyScheduleIsConsistentWithADispatchCost() {
+        Random rand = new Random(18);
+        for (int trial = 0; trial < 1000; trial++) {
+            ProcessTable table = PreemptiveSchedulerTest.randomTable(rand, 1 + rand.nextInt(50));
+            ProcessTable.RunState run = table.newRun(new DispatchCost(rand.nextInt(4), rand.nextInt(4)));
+            GanttLog gantt = new GanttLog(table.size);
+            ScheduleResult result = MlfqScheduler.mlfq(table, run, gantt, randomQuanta(rand), rand.nextBoolean() ? 0 : 1 + rand.nextInt(30));
+            ScheduleAssertions.assertConsistent(table, run, gantt, result, result.title + ", trial " + trial);
+        }
+    }
+
+    @Test
+    void oneLevelIsRoundRobin() {
+        Random rand = new Random(17);
+        for (int trial = 0; trial < 1000; trial++) {
+            ProcessTable table = PreemptiveSchedulerTest.randomTable(rand, 1 + rand.nextInt(50));
+            int timeQuantum = 1 + rand.nextInt(5);
+            ProcessTable.RunState expected = table.newRun(), actual = table.newRun();
+            GanttLog roundRobin = new GanttLog(table.size), mlfq = new GanttLog(table.size);
+            SchedulingEngine.roundRobin(table, expected, roundRobin, timeQuantum);
+            MlfqScheduler.mlfq(table, actual, mlfq, new int[] {timeQuantum}, 0);
+            String context = "quantum " + timeQuantum + ", trial " + trial;
+            assertArrayEquals(expected.completion, actual.completion, context);
+            assertArrayEquals(expected.cpuInit, actual.cpuInit, context);
+            assertEquals(expected.contextSwitches, actual.contextSwitches, context);
+            assertEquals(PreemptiveSchedulerTest.segments(roundRobin), PreemptiveSchedulerTest.segments(mlfq), context);
+        }
+    }
+
+    @Test
+    void freeSwitchesMatchTheNaiveScheduler() {
+        Random rand = new Random(17);
+        for (int trial = 0; trial < 2000; trial++) {
+            ProcessTable table = PreemptiveSchedulerTest.randomTable(rand, 1 + rand.nextInt(50));
+            int[] quanta = randomQuanta(rand);
+            int boostPeriod = rand.nextBoolean() ? 0 : 1 + rand.nextInt(30);
+            ProcessTable.RunState run = table.newRun();
+            GanttLog gantt = new GanttLog(table.size);
+            ScheduleResult result = MlfqScheduler.mlfq(table, run, gantt, quanta, boostPeriod);
+            List<Integer> expected = new ArrayList<>();
+            int[] switches = new int[1];
+            int[] completion = naive(table, quanta, boostPeriod, expected, switches);
+            String context = result.title + ", trial " + trial;
+            assertArrayEquals(completion, run.completion, context);
+            assertEquals(switches[0], result.contextSwitches, context);
+            List<Integer> actual = new ArrayList<>();
+            for (int i = 0; i < gantt.size(); i++) {
+                for (int t = gantt.start(i); t < gantt.finish(i); t++)
+                    actual.add(gantt.labelCode(i));
+            }
+            assertEquals(expected, actual, context);
+        }
+    }
+
+    //This method returns between one and four random quanta
+    private static int[] randomQuanta(Random rand) {
+        int[] quanta = new int[1 + rand.nextInt(4)];
+        for (int i = 0; i < quanta.length; i++)
+            quanta[i] = 1 + rand.nextInt(6);
+        return quanta;
+    }
+
+    //This method simulates MLFQ one time unit at a time with a deque per level; at every multiple of the boost period
+    //every row moves back to the top level with a fresh quantum
+    //It returns the completion times, appends the PID run in each unit (or IDLE) to the timeline and counts the switches
+    static int[] naive(ProcessTable table, int[] quanta, int boostPeriod, List<Integer> timeline, int[] switches) {
+        int n = table.size, levels = quanta.length;
+        List<ArrayDeque<Integer>> queues = new ArrayList<>();
+        for (int l = 0; l < levels; l++)
+            queues.add(new ArrayDeque<>());
+        int[] remaining = table.burst.clone(), level = new int[n], used = new int[n], completion = new int[n];
+        boolean[] admitted = new boolean[n];
+        int time = 0, finished = 0, running = -1, last = -1;
+        while (finished < n) {
+            if (boostPeriod > 0 && time > 0 && time % boostPeriod == 0) {
+                for (int l = 1; l < levels; l++) {
+                    queues.get(0).addAll(queues.get(l));
+                    queues.get(l).clear();
+                }
+                Arrays.fill(level, 0);
+                Arrays.fill(used, 0);
+            }
+            for (int row : table.byArrival()) {
+                if (!admitted[row] && table.arrival[row] <= time) {
+                    admitted[row] = true;
+                    queues.get(0).addLast(row);
+                }
+            }
+            if (running != -1) {
+                int l = level[running];
+                if (used[running] == quanta[l]) {
+                    l = Math.min(l + 1, levels - 1);
+                    level[running] = l;
+                    used[running] = 0;
+                    queues.get(l).addLast(running);
+                    running = -1;
+                } else {
+                    for (int higher = 0; higher < l; higher++) {
+                        if (!queues.get(higher).isEmpty()) {
+                            queues.get(l).addFirst(running);
+                            running = -1;
+                            break;
+                        }
+                    }
+                }
+            }
+            if (running == -1) {
+                for (ArrayDeque<Integer> queue : queues) {
+                    if (!queue.isEmpty()) {
+                        running = queue.pollFirst();
+                        if (last != -1 && last != running)
+                            switches[0]++;
+                        last = running;
+                        break;
+                    }
+                }
+            }
+            if (running == -1) {
+                timeline.add(GanttLog.IDLE);
+                time++;
+                continue;
+            }
+            timeline.add(table.pid[running]);
+            remaining[running]--;
+            used[running]++;
+            time++;
+            if (remaining[running] == 0) {
+                completion[running] = time;
+                finished++;
+                running = -1;
+            }
+        }
+        return completion;
+    }
+}
@@ -0,0 +1,102 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//This class checks that one core reproduces SchedulingEngine exactly under every balancing policy, with and without affinity,
+//and that more cores still run every burst exactly once
+class MultiCoreSchedulerTest {
+    private static final String[] ALGORITHMS = {"fcfs", "sjf", "rr", "priority"};
+
+    //This method returns a random table sorted by arrival, with bursts of arrivals, gaps and repeated PIDs
+    static ProcessTable randomTable(Random rand, int processes) {
+        ProcessTable table = new ProcessTable(processes);
+        int arrival = 0;
+        for (int i = 1; i <= processes; i++) {
+            arrival += rand.nextInt(rand.nextBoolean() ? 2 : 8);
+            table.add(rand.nextInt(processes) + 1, arrival, 1 + rand.nextInt(12), rand.nextInt(5), 100);
+        }
+        return table.sortedByArrival();
+    }
+
+    //This method runs the named algorithm on the single-core engine
+    static void runEngine(String algorithm, ProcessTable table, ProcessTable.RunState run, GanttLog gantt, int timeQuantum) {
+        switch (algorithm) {
+            case "fcfs":
+                SchedulingEngine.fcfs(table, run, gantt);
+                break;
+            case "sjf":
+                SchedulingEngine.sjf(table, run, gantt);
+                break;
+            case "rr":
+                SchedulingEngine.roundRobin(table, run, gantt, timeQuantum);
+                break;
+            default:
+                SchedulingEngine.priority(table, run, gantt);
+        }
+    }
+
+    @Test
+    void oneCoreMatchesSchedulingEngine() {
+        Random rand = new Random(11);
+        for (int trial = 0; trial < 200; trial++) {
+            ProcessTable table = randomTable(rand, 1 + rand.nextInt(200));
+            int n = table.size;
+            int timeQuantum = 1 + rand.nextInt(6);
+            DispatchCost cost = rand.nextBoolean() ? DispatchCost.NONE : new DispatchCost(rand.nextInt(4), rand.nextInt(4));
+            for (String algorithm : ALGORITHMS) {
+                ProcessTable.RunState expected = table.newRun(cost);
+                GanttLog gantt = new GanttLog(n);
+                runEngine(algorithm, table, expected, gantt, timeQuantum);
+                for (MultiCoreScheduler.Balancing balancing : MultiCoreScheduler.Balancing.values()) {
+                    for (boolean affinity : new boolean[] {false, true}) {
+                        String context = algorithm + ", " + balancing + (affinity ? " with affinity" : "") + ", trial " + trial;
+                        ProcessTable.RunState actual = table.newRun(cost);
+                        MultiCoreScheduler.Outcome outcome = MultiCoreScheduler.run(table, actual, algorithm, timeQuantum, 1, balancing, affinity, 7, true);
+                        assertArrayEquals(expected.completion, actual.completion, context);
+                        assertArrayEquals(expected.cpuInit, actual.cpuInit, context);
+                        assertArrayEquals(Arrays.copyOf(expected.finishOrder, n), Arrays.copyOf(actual.finishOrder, n), context);
+                        assertEquals(expected.contextSwitches, actual.contextSwitches, context);
+                        assertEquals(expected.overheadTime, actual.overheadTime, context);
+                        GanttLog core = outcome.gantt[0];
+                        assertEquals(gantt.size(), core.size(), context);
+                        for (int i = 0; i < gantt.size(); i++) {
+                            assertEquals(gantt.labelCode(i), core.labelCode(i), context + ", segment " + i);
+                            assertEquals(gantt.start(i), core.start(i), context + ", segment " + i);
+                            assertEquals(gantt.finish(i), core.finish(i), context + ", segment " + i);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void manyCoresRunEveryBurstOnce() {
+        Random rand = new Random(12);
+        for (int trial = 0; trial < 200; trial++) {
+            ProcessTable table = randomTable(rand, 1 + rand.nextInt(200));
+            int timeQuantum = 1 + rand.nextInt(6);
+            long bursts = 0;
+            for (int i = 0; i < table.size; i++)
+                bursts += table.burst[i];
+            for (String algorithm : ALGORITHMS) {
+                for (MultiCoreScheduler.Balancing balancing : MultiCoreScheduler.Balancing.values()) {
+                    String context = algorithm + ", " + balancing + ", trial " + trial;
+                    ProcessTable.RunState run = table.newRun();
+                    MultiCoreScheduler.Outcome outcome = MultiCoreScheduler.run(table, run, algorithm, timeQuantum, 2 + rand.nextInt(30),
+                            balancing, rand.nextBoolean(), 1 + rand.nextInt(10), false);
+                    assertEquals(table.size, run.finished, context);
+                    assertEquals(bursts, Arrays.stream(outcome.busy).sum(), context);
+                    for (int i = 0; i < table.size; i++)
+                        assertTrue(run.completion[i] - table.arrival[i] >= table.burst[i], context + ", row " + i + " finished early");
+                }
+            }
+        }
+    }
+}
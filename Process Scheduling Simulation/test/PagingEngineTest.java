@@ -0,0 +1,58 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//This class checks the O(1) FIFO and LRU engines against the list-based paging simulation they replaced
+class PagingEngineTest {
+    @Test
+    void fifoAndLruMatchTheListVersions() {
+        Random rand = new Random(1);
+        for (int trial = 0; trial < 2000; trial++) {
+            int frames = 1 + rand.nextInt(40);
+            int[] references = new int[rand.nextInt(3000)];
+            int span = 1 + rand.nextInt(120);
+            for (int i = 0; i < references.length; i++) {
+                references[i] = rand.nextInt(span) * (rand.nextBoolean() ? 1 : -7919);
+            }
+            assertEquals(fifo(references, frames), OperatingSystemSchedulesProcesses.simulatePagingFIFO(references, frames), "FIFO, trial " + trial);
+            assertEquals(lru(references, frames), OperatingSystemSchedulesProcesses.simulatePagingLRU(references, frames), "LRU, trial " + trial);
+        }
+    }
+
+    //This method counts the faults of FIFO with the frames kept in load order in a list
+    static int fifo(int[] references, int frames) {
+        List<Integer> resident = new ArrayList<>();
+        int faults = 0;
+        for (int page : references) {
+            if (!resident.contains(page)) {
+                faults++;
+                if (resident.size() == frames)
+                    resident.remove(0);
+                resident.add(page);
+            }
+        }
+        return faults;
+    }
+
+    //This method counts the faults of LRU with the frames kept least recently used first in a list
+    static int lru(int[] references, int frames) {
+        List<Integer> resident = new ArrayList<>();
+        int faults = 0;
+        for (int page : references) {
+            if (resident.remove(Integer.valueOf(page))) {
+                resident.add(page);
+                continue;
+            }
+            faults++;
+            if (resident.size() == frames)
+                resident.remove(0);
+            resident.add(page);
+        }
+        return faults;
+    }
+}
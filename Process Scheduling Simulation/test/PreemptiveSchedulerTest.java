@@ -0,0 +1,185 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//This class checks SRTF and preemptive Priority against a naive version that picks the best ready row again at every time unit
+class PreemptiveSchedulerTest {
+    //This method returns a random table in trace order with unique PIDs, bursts of arrivals and gaps
+    static ProcessTable randomTable(Random rand, int processes) {
+        ProcessTable table = new ProcessTable(processes);
+        int arrival = 0;
+        for (int i = 1; i <= processes; i++) {
+            arrival += rand.nextInt(rand.nextBoolean() ? 2 : 9);
+            table.add(i, arrival, 1 + rand.nextInt(12), rand.nextInt(5), 100);
+        }
+        return rand.nextBoolean() ? table.sortedByArrival() : table;
+    }
+
+    //This method returns the Gantt chart as "label start-finish" segments
+    static List<String> segments(GanttLog gantt) {
+        List<String> segments = new ArrayList<>();
+        for (int i = 0; i < gantt.size(); i++) {
+            segments.add(GanttLog.labelFor(gantt.labelCode(i)) + " " + gantt.start(i) + "-" + gantt.finish(i));
+        }
+        return segments;
+    }
+
+    @Test
+    void arrivalDuringASwitchTakesOverTheSwitch() {
+        ProcessTable table = new ProcessTable(3);
+        table.add(1, 0, 10, 1, 10);
+        table.add(2, 1, 5, 2, 10);
+        table.add(3, 2, 1, 3, 10);
+        ProcessTable.RunState run = table.newRun(new DispatchCost(3, 0));
+        GanttLog gantt = new GanttLog(8);
+        ScheduleResult result = PreemptiveScheduler.srtf(table, run, gantt);
+        //P2 preempts P1 at time 1, but P3 arrives during the switch and is shorter, so P2 must not start at time 4
+        assertEquals(List.of("P1 0-1", "CS 1-4", "P3 4-5", "CS 5-8", "P2 8-13", "CS 13-16", "P1 16-25"), segments(gantt));
+        assertEquals(3, run.contextSwitches);
+        assertArrayEquals(new int[] {0, 8, 4}, run.cpuInit);
+        ScheduleAssertions.assertConsistent(table, run, gantt, result, "SRTF");
+    }
+
+    @Test
+    void agingRaisesWholeLevelsOnly() {
+        ProcessTable table = new ProcessTable(2);
+        table.add(1, 0, 20, 1, 10);
+        table.add(2, 0, 20, 1, 10);
+        //P2 reaches the level above P1 after waiting one full interval, and P1 never gets back above P2
+        GanttLog gantt = new GanttLog(4);
+        ScheduleResult result = PreemptiveScheduler.priority(table, table.newRun(), gantt, 10);
+        assertEquals(List.of("P1 0-10", "P2 10-30", "P1 30-40"), segments(gantt));
+        assertEquals(2, result.contextSwitches);
+        //An interval longer than the wait never raises P2 a level, so the equal priorities never trade places
+        gantt = new GanttLog(4);
+        result = PreemptiveScheduler.priority(table, table.newRun(), gantt, 1000);
+        assertEquals(List.of("P1 0-20", "P2 20-40"), segments(gantt));
+        assertEquals(1, result.contextSwitches);
+    }
+
+    @Test
+    void everyScheduleIsConsistentWithADispatchCost() {
+        Random rand = new Random(18);
+        for (int trial = 0; trial < 1000; trial++) {
+            ProcessTable table = randomTable(rand, 1 + rand.nextInt(50));
+            ProcessTable.RunState run = table.newRun(new DispatchCost(rand.nextInt(4), rand.nextInt(4)));
+            int agingInterval = rand.nextInt(3) == 0 ? 0 : 1 + rand.nextInt(5);
+            GanttLog gantt = new GanttLog(table.size);
+            ScheduleResult result = rand.nextBoolean() ? PreemptiveScheduler.srtf(table, run, gantt)
+                    : PreemptiveScheduler.priority(table, run, gantt, agingInterval);
+            ScheduleAssertions.assertConsistent(table, run, gantt, result, result.title + ", trial " + trial);
+        }
+    }
+
+    @Test
+    void freeSwitchesMatchTheNaiveScheduler() {
+        Random rand = new Random(16);
+        for (int trial = 0; trial < 2000; trial++) {
+            ProcessTable table = randomTable(rand, 1 + rand.nextInt(60));
+            for (int mode = 0; mode < 3; mode++) {
+                int agingInterval = mode == 2 ? 1 + rand.nextInt(6) : 0;
+                ProcessTable.RunState run = table.newRun();
+                GanttLog gantt = new GanttLog(table.size);
+                ScheduleResult result = mode == 0 ? PreemptiveScheduler.srtf(table, run, gantt)
+                        : PreemptiveScheduler.priority(table, run, gantt, agingInterval);
+                List<Integer> expected = new ArrayList<>();
+                int[] completion = naive(table, mode == 0, agingInterval, expected);
+                String context = result.title + ", trial " + trial;
+                assertArrayEquals(completion, run.completion, context);
+                List<Integer> actual = new ArrayList<>();
+                for (int i = 0; i < gantt.size(); i++) {
+                    for (int t = gantt.start(i); t < gantt.finish(i); t++)
+                        actual.add(gantt.labelCode(i));
+                }
+                assertEquals(expected, actual, context);
+                int switches = 0;
+                for (int t = 1, last = -1; t <= actual.size(); t++) {
+                    int label = actual.get(t - 1);
+                    if (label >= 0 && last >= 0 && label != last)
+                        switches++;
+                    if (label >= 0)
+                        last = label;
+                }
+                assertEquals(switches, result.contextSwitches, context);
+            }
+        }
+    }
+
+    //This method simulates one time unit at a time: every ready row is compared again and the best one runs for one unit
+    //It returns the completion times and appends the PID run in each unit (or IDLE) to the timeline
+    static int[] naive(ProcessTable table, boolean byRemaining, int agingInterval, List<Integer> timeline) {
+        int n = table.size;
+        int[] remaining = table.burst.clone(), waited = new int[n], completion = new int[n];
+        boolean[] ready = new boolean[n];
+        int finished = 0, time = 0, running = -1;
+        while (finished < n) {
+            for (int row = 0; row < n; row++) {
+                if (!ready[row] && remaining[row] > 0 && table.arrival[row] <= time)
+                    ready[row] = true;
+            }
+            int best = -1;
+            for (int row = 0; row < n; row++) {
+                if (!ready[row])
+                    continue;
+                if (best == -1 || compare(table, row, best, byRemaining, agingInterval, remaining, waited, running) < 0)
+                    best = row;
+            }
+            if (best == -1) {
+                timeline.add(GanttLog.IDLE);
+                time++;
+                running = -1;
+                continue;
+            }
+            for (int row = 0; row < n; row++) {
+                if (ready[row] && row != best)
+                    waited[row]++;
+            }
+            running = best;
+            timeline.add(table.pid[best]);
+            remaining[best]--;
+            time++;
+            if (remaining[best] == 0) {
+                ready[best] = false;
+                completion[best] = time;
+                finished++;
+                running = -1;
+            }
+        }
+        return completion;
+    }
+
+    //This method orders two ready rows: by remaining time, or by priority raised one whole level per full aging interval waited;
+    //ties keep the running row; with aging, waiting rows on the same level then go to the one that has waited longest towards
+    //its next level; remaining ties go to the earliest arrival, the lowest PID and the lowest row
+    private static int compare(ProcessTable table, int a, int b, boolean byRemaining, int agingInterval, int[] remaining,
+                               int[] waited, int running) {
+        long keyA, keyB;
+        if (byRemaining) {
+            keyA = remaining[a];
+            keyB = remaining[b];
+        } else if (agingInterval == 0) {
+            keyA = -table.priority[a];
+            keyB = -table.priority[b];
+        } else {
+            keyA = -(table.priority[a] + (long) waited[a] / agingInterval);
+            keyB = -(table.priority[b] + (long) waited[b] / agingInterval);
+        }
+        if (keyA != keyB)
+            return Long.compare(keyA, keyB);
+        if (a == running || b == running)
+            return a == running ? -1 : 1;
+        if (agingInterval > 0 && !byRemaining && waited[a] % agingInterval != waited[b] % agingInterval)
+            return Integer.compare(waited[b] % agingInterval, waited[a] % agingInterval);
+        if (table.arrival[a] != table.arrival[b])
+            return Integer.compare(table.arrival[a], table.arrival[b]);
+        if (table.pid[a] != table.pid[b])
+            return Integer.compare(table.pid[a], table.pid[b]);
+        return Integer.compare(a, b);
+    }
+}
@@ -0,0 +1,54 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//This class checks the red-black ready tree against a TreeSet that uses the same comparator
+class ReadyTreeTest {
+    @Test
+    void addAndPollMatchATreeSet() {
+        Random rand = new Random(21);
+        for (int trial = 0; trial < 300; trial++) {
+            int capacity = 1 + rand.nextInt(500);
+            long[] key = new long[capacity];
+            //Ties on the key are broken by index, so the order is total and the TreeSet keeps every index
+            ReadyTree tree = new ReadyTree(capacity, (a, b) -> key[a] != key[b] ? Long.compare(key[a], key[b]) : Integer.compare(a, b));
+            TreeSet<Integer> expected = new TreeSet<>((a, b) -> key[a] != key[b] ? Long.compare(key[a], key[b]) : Integer.compare(a, b));
+            List<Integer> absent = new ArrayList<>();
+            for (int i = 0; i < capacity; i++)
+                absent.add(i);
+            int keyRange = 1 + rand.nextInt(capacity); //A small range gives many equal keys
+            for (int step = 0; step < 4 * capacity; step++) {
+                String context = "trial " + trial + ", step " + step;
+                if (!absent.isEmpty() && (expected.isEmpty() || rand.nextInt(5) < 3)) {
+                    int index = absent.remove(rand.nextInt(absent.size()));
+                    key[index] = rand.nextInt(keyRange);
+                    tree.add(index);
+                    expected.add(index);
+                } else {
+                    int index = tree.poll();
+                    assertEquals(expected.pollFirst(), index, context);
+                    absent.add(index);
+                }
+                assertEquals(expected.size(), tree.size(), context);
+                if (!expected.isEmpty())
+                    assertEquals(expected.first(), tree.peek(), context);
+                //Now and then the tree is cleared and refilled over the columns it already used
+                if (rand.nextInt(1000) == 0) {
+                    tree.clear();
+                    absent.addAll(expected);
+                    expected.clear();
+                }
+            }
+            while (!expected.isEmpty())
+                assertEquals(expected.pollFirst(), tree.poll(), "trial " + trial + ", draining");
+            assertTrue(tree.isEmpty(), "trial " + trial);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//This class checks OPT, Clock, LFU and ARC against naive list-based versions of the same policies on random reference strings
+//The naive versions scan their frames on every reference, which is slow but easy to check by eye against the textbook definitions
+class ReplacementPolicyTest {
+    private static final int TRIALS = 1000;
+
+    //This method returns a random reference string; pages are spread out and may be negative, so no policy can rely on dense page numbers
+    private static int[] references(Random rand) {
+        int[] references = new int[rand.nextInt(600)];
+        int span = 1 + rand.nextInt(50);
+        for (int i = 0; i < references.length; i++) {
+            references[i] = rand.nextInt(span) * (rand.nextBoolean() ? 1 : -31);
+        }
+        return references;
+    }
+
+    @Test
+    void everyPolicyMatchesItsNaiveVersion() {
+        Random rand = new Random(5);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            int frames = 1 + rand.nextInt(20);
+            int[] references = references(rand);
+            ReplacementPolicy[] policies = {new OptReplacement(frames, references), new ClockReplacement(frames),
+                    new LfuReplacement(frames), new ArcReplacement(frames)};
+            long[] expected = {opt(references, frames), clock(references, frames), lfu(references, frames), arc(references, frames)};
+            for (int p = 0; p < policies.length; p++) {
+                //Replaying twice also checks that reset forgets every frame and counter
+                for (int replay = 0; replay < 2; replay++) {
+                    policies[p].reset();
+                    long faults = policies[p].run(references, 0, references.length);
+                    String context = policies[p].name() + " with " + frames + " frames, trial " + trial;
+                    assertEquals(expected[p], faults, context);
+                    assertEquals(faults, policies[p].faults(), context);
+                    assertEquals(references.length, policies[p].references(), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void optNeverFaultsMoreThanLruOrClock() {
+        Random rand = new Random(6);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            int frames = 1 + rand.nextInt(20);
+            int[] references = references(rand);
+            long opt = new OptReplacement(frames, references).run(references, 0, references.length);
+            assertTrue(opt <= new LruReplacement(frames).run(references, 0, references.length), "OPT above LRU, trial " + trial);
+            assertTrue(opt <= new ClockReplacement(frames).run(references, 0, references.length), "OPT above Clock, trial " + trial);
+        }
+    }
+
+    //This method counts the faults of OPT, evicting the resident page whose next use is furthest away (or never)
+    static long opt(int[] references, int frames) {
+        List<Integer> resident = new ArrayList<>();
+        long faults = 0;
+        for (int i = 0; i < references.length; i++) {
+            int page = references[i];
+            if (resident.contains(page))
+                continue;
+            faults++;
+            if (resident.size() < frames) {
+                resident.add(page);
+                continue;
+            }
+            int victim = -1, furthest = -1;
+            for (int k = 0; k < resident.size(); k++) {
+                int nextUse = Integer.MAX_VALUE;
+                for (int j = i + 1; j < references.length; j++) {
+                    if (references[j] == resident.get(k)) {
+                        nextUse = j;
+                        break;
+                    }
+                }
+                if (nextUse > furthest) {
+                    furthest = nextUse;
+                    victim = k;
+                }
+            }
+            resident.set(victim, page);
+        }
+        return faults;
+    }
+
+    //This method counts the faults of Clock: the hand clears reference bits until it finds a frame whose bit is clear
+    static long clock(int[] references, int frames) {
+        int[] page = new int[frames];
+        boolean[] referenced = new boolean[frames];
+        int used = 0, hand = 0;
+        long faults = 0;
+        outer:
+        for (int reference : references) {
+            for (int k = 0; k < used; k++) {
+                if (page[k] == reference) {
+                    referenced[k] = true;
+                    continue outer;
+                }
+            }
+            faults++;
+            if (used < frames) {
+                page[used++] = reference;
+                continue;
+            }
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1) % frames;
+            }
+            page[hand] = reference;
+            hand = (hand + 1) % frames;
+        }
+        return faults;
+    }
+
+    //This method counts the faults of LFU, evicting the least frequently used page and the least recently used one among ties
+    static long lfu(int[] references, int frames) {
+        List<Integer> pages = new ArrayList<>(), counts = new ArrayList<>(), lastUse = new ArrayList<>();
+        long faults = 0;
+        for (int i = 0; i < references.length; i++) {
+            int k = pages.indexOf(references[i]);
+            if (k >= 0) {
+                counts.set(k, counts.get(k) + 1);
+                lastUse.set(k, i);
+                continue;
+            }
+            faults++;
+            if (pages.size() < frames) {
+                pages.add(references[i]);
+                counts.add(1);
+                lastUse.add(i);
+                continue;
+            }
+            int victim = 0;
+            for (int j = 1; j < pages.size(); j++) {
+                int c = Integer.compare(counts.get(j), counts.get(victim));
+                if (c < 0 || (c == 0 && lastUse.get(j) < lastUse.get(victim)))
+                    victim = j;
+            }
+            pages.set(victim, references[i]);
+            counts.set(victim, 1);
+            lastUse.set(victim, i);
+        }
+        return faults;
+    }
+
+    //This method counts the faults of ARC as published by Megiddo and Modha, with each list kept most recently used first
+    static long arc(int[] references, int frames) {
+        LinkedList<Integer> t1 = new LinkedList<>(), t2 = new LinkedList<>(), b1 = new LinkedList<>(), b2 = new LinkedList<>();
+        int target = 0;
+        long faults = 0;
+        for (int x : references) {
+            Integer page = x;
+            if (t1.contains(page) || t2.contains(page)) {
+                t1.remove(page);
+                t2.remove(page);
+                t2.addFirst(page);
+                continue;
+            }
+            faults++;
+            if (b1.contains(page)) {
+                target = Math.min(frames, target + Math.max(b2.size() / b1.size(), 1));
+                replace(t1, t2, b1, b2, target, false);
+                b1.remove(page);
+                t2.addFirst(page);
+                continue;
+            }
+            if (b2.contains(page)) {
+                target = Math.max(0, target - Math.max(b1.size() / b2.size(), 1));
+                replace(t1, t2, b1, b2, target, true);
+                b2.remove(page);
+                t2.addFirst(page);
+                continue;
+            }
+            if (t1.size() + b1.size() == frames) {
+                if (t1.size() < frames) {
+                    b1.removeLast();
+                    replace(t1, t2, b1, b2, target, false);
+                } else {
+                    t1.removeLast();
+                }
+            } else {
+                int total = t1.size() + t2.size() + b1.size() + b2.size();
+                if (total >= frames) {
+                    if (total == 2 * frames)
+                        b2.removeLast();
+                    replace(t1, t2, b1, b2, target, false);
+                }
+            }
+            t1.addFirst(page);
+        }
+        return faults;
+    }
+
+    //This method is ARC's REPLACE step: it moves the least recently used page of T1 or T2 to the matching ghost list
+    private static void replace(LinkedList<Integer> t1, LinkedList<Integer> t2, LinkedList<Integer> b1, LinkedList<Integer> b2,
+                                int target, boolean hitInB2) {
+        if (!t1.isEmpty() && (t1.size() > target || (hitInB2 && t1.size() == target))) {
+            b1.addFirst(t1.removeLast());
+        } else {
+            b2.addFirst(t2.removeLast());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+//Importing the necessary libraries
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//This class holds the checks every single-CPU schedule must pass, whatever the algorithm and dispatch cost
+final class ScheduleAssertions {
+    private ScheduleAssertions() {
+    }
+
+    //This method checks that the Gantt chart covers the run without gaps or empty segments, that every burst ran exactly once,
+    //that the switch segments add up to the charged overhead, and that each row's response time is the start of its first slice
+    static void assertConsistent(ProcessTable table, ProcessTable.RunState run, GanttLog gantt, ScheduleResult result, String context) {
+        assertEquals(table.size, run.finished, context + ": unfinished rows");
+        int[] firstSlice = new int[table.size];
+        Arrays.fill(firstSlice, -1);
+        long busy = 0, switching = 0;
+        int time = 0;
+        for (int i = 0; i < gantt.size(); i++) {
+            String segment = context + ", segment " + i;
+            assertEquals(time, gantt.start(i), segment + " does not follow the one before");
+            assertTrue(gantt.finish(i) > gantt.start(i), segment + " is empty");
+            int length = gantt.finish(i) - gantt.start(i);
+            if (gantt.labelCode(i) == GanttLog.SWITCH) {
+                switching += length;
+            } else if (gantt.labelCode(i) != GanttLog.IDLE) {
+                busy += length;
+                int row = rowOf(table, gantt.labelCode(i));
+                if (firstSlice[row] == -1)
+                    firstSlice[row] = gantt.start(i);
+            }
+            time = gantt.finish(i);
+        }
+        long bursts = 0;
+        for (int row = 0; row < table.size; row++)
+            bursts += table.burst[row];
+        assertEquals(bursts, busy, context + ": time run");
+        assertEquals(run.overheadTime, switching, context + ": switch time");
+        assertEquals(result.makespan, time, context + ": makespan");
+        for (int row = 0; row < table.size; row++) {
+            assertEquals(firstSlice[row], run.cpuInit[row], context + ": response time of row " + row);
+        }
+    }
+
+    //This method returns the row with the given PID; the tables checked here give every row its own PID
+    private static int rowOf(ProcessTable table, int pid) {
+        for (int row = 0; row < table.size; row++) {
+            if (table.pid[row] == pid)
+                return row;
+        }
+        throw new AssertionError("No row has PID " + pid);
+    }
+}
@@ -0,0 +1,73 @@
+//Importing the necessary libraries
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//This class checks the slab allocator's accounting, including the slab tails it counts as internal fragmentation
+class SlabAllocatorTest {
+    @Test
+    void slabTailCountsAsAllocatedWhileTheSlabServesItsClass() {
+        SlabAllocator slab = new SlabAllocator(1 << 30, 4096, new int[] {1, 3000});
+        int small = slab.allocate(1);
+        int large = slab.allocate(3000);
+        //The 3000-unit class fits once in a 4096-unit slab, so 1096 units of that slab can never be handed out
+        assertEquals(1 + 3000 + 1096, slab.allocatedBytes());
+        assertEquals(3001, slab.requestedBytes());
+        assertEquals(1 - 3001.0 / 4097, slab.internalFragmentation(), 1e-12);
+        slab.free(large);
+        slab.free(small);
+        assertEquals(0, slab.allocatedBytes());
+        assertEquals(slab.capacity(), slab.freeBytes());
+    }
+
+    @Test
+    void objectsNeverOverlapAndEveryByteComesBack() {
+        Random rand = new Random(4);
+        for (int trial = 0; trial < 200; trial++) {
+            int memorySize = 64 + rand.nextInt(20_000);
+            int slabSize = Math.min(memorySize, 1 << (6 + rand.nextInt(6)));
+            int[] sizes = new int[50];
+            for (int i = 0; i < sizes.length; i++)
+                sizes[i] = 1 + rand.nextInt(200);
+            SlabAllocator slab = new SlabAllocator(memorySize, slabSize, SlabAllocator.sizeClasses(sizes, sizes.length, slabSize, 4));
+            TreeMap<Integer, Integer> live = new TreeMap<>(); //This map stores the size of each live object by address
+            List<Integer> addresses = new ArrayList<>();
+            for (int step = 0; step < 3000; step++) {
+                String context = "trial " + trial + ", step " + step;
+                if (!addresses.isEmpty() && rand.nextInt(3) == 0) {
+                    int address = addresses.remove(rand.nextInt(addresses.size()));
+                    live.remove(address);
+                    slab.free(address);
+                } else {
+                    int request = rand.nextBoolean() ? sizes[rand.nextInt(sizes.length)] : 1 + rand.nextInt(300);
+                    int address = slab.allocate(request);
+                    if (address == Allocator.FAILED)
+                        continue;
+                    assertTrue(address + request <= slab.capacity(), context + ": object beyond the last slab");
+                    Map.Entry<Integer, Integer> below = live.floorEntry(address), above = live.ceilingEntry(address);
+                    assertTrue(below == null || below.getKey() + below.getValue() <= address, context + ": overlaps the object below");
+                    assertTrue(above == null || address + request <= above.getKey(), context + ": overlaps the object above");
+                    live.put(address, request);
+                    addresses.add(address);
+                }
+                long requested = 0;
+                for (int size : live.values())
+                    requested += size;
+                assertEquals(requested, slab.requestedBytes(), context);
+                assertTrue(slab.allocatedBytes() >= requested, context);
+                assertEquals(slab.capacity() - slab.allocatedBytes(), slab.freeBytes(), context);
+            }
+            for (int address : addresses)
+                slab.free(address);
+            assertEquals(0, slab.allocatedBytes(), "trial " + trial + ": bytes still allocated after every free");
+            assertEquals(slabSize, slab.largestFree(), "trial " + trial + ": empty slabs not returned to the pool");
+        }
+    }
+}
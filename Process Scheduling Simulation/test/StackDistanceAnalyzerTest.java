@@ -0,0 +1,36 @@
+//Importing the necessary libraries
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//This class checks the one-pass LRU miss-ratio curve against a separate LruReplacement run for each frame count
+class StackDistanceAnalyzerTest {
+    @Test
+    void faultCurveMatchesLruAtEveryFrameCount() {
+        Random rand = new Random(9);
+        for (int trial = 0; trial < 100; trial++) {
+            int[] references = new int[rand.nextInt(50_000)];
+            int span = 1 + rand.nextInt(trial % 3 == 0 ? 100_000 : 300); //Every third string has mostly cold misses
+            for (int i = 0; i < references.length; i++) {
+                references[i] = rand.nextInt(span) - span / 3;
+            }
+            int maxFrames = 1 + rand.nextInt(60);
+            StackDistanceAnalyzer analyzer = new StackDistanceAnalyzer();
+            //Feeding the string in two parts must give the same curve as feeding it at once
+            if (rand.nextBoolean()) {
+                analyzer.run(references, 0, references.length);
+            } else {
+                analyzer.run(references, 0, references.length / 2);
+                analyzer.run(references, references.length / 2, references.length);
+            }
+            long[] curve = analyzer.faultCurve(maxFrames);
+            for (int frames = 1; frames <= maxFrames; frames++) {
+                LruReplacement lru = new LruReplacement(frames);
+                lru.run(references, 0, references.length);
+                assertEquals(lru.faults(), curve[frames], frames + " frames, trial " + trial);
+            }
+        }
+    }
+}